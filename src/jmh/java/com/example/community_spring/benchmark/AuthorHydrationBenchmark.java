@@ -0,0 +1,95 @@
+package com.example.community_spring.benchmark;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Service.AuthorHydrator;
+import com.example.community_spring.User.DTO.response.AuthorSummary;
+import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.User.Service.AuthorSummaryCache;
+import com.example.community_spring.config.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 작성자 정보 보강(AuthorHydrator) 비용
+ * 작성자가 모두 캐시에 있는 경우와, 매번 캐시를 비워 일괄 조회까지 가는 경우를 측정한다.
+ * DB 왕복은 제외하기 위해 UserRepository는 메모리에서 바로 결과를 돌려주는 프록시로 대신한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthorHydrationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    // 한 페이지에 등장하는 서로 다른 작성자 수
+    @Param({"3", "10"})
+    private int authorCount;
+
+    private AuthorHydrator authorHydrator;
+    private AuthorSummaryCache authorSummaryCache;
+    private List<PostResponse> posts;
+
+    @Setup
+    public void setUp() {
+        authorSummaryCache = new AuthorSummaryCache(new CacheProperties(), new SimpleMeterRegistry());
+        authorHydrator = new AuthorHydrator(inMemoryUserRepository(), authorSummaryCache);
+
+        posts = new ArrayList<>(pageSize);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (long i = 1; i <= pageSize; i++) {
+            posts.add(new PostResponse(i, i % authorCount + 1, "게시글 제목 " + i, null,
+                    createdAt.plusMinutes(i), 0, 0, 0));
+        }
+        authorHydrator.hydratePostResponses(posts);
+    }
+
+    @Benchmark
+    public List<PostResponse> cachedAuthors() {
+        authorHydrator.hydratePostResponses(posts);
+        return posts;
+    }
+
+    @Benchmark
+    public List<PostResponse> uncachedAuthors() {
+        for (long userId = 1; userId <= authorCount; userId++) {
+            authorSummaryCache.invalidate(userId);
+        }
+        authorHydrator.hydratePostResponses(posts);
+        return posts;
+    }
+
+    // findAuthorSummariesByUserIdIn만 구현한 UserRepository
+    @SuppressWarnings("unchecked")
+    private static UserRepository inMemoryUserRepository() {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAuthorSummariesByUserIdIn")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Collection<Long> userIds = (Collection<Long>) args[0];
+                    List<AuthorSummary> authors = new ArrayList<>(userIds.size());
+                    for (Long userId : userIds) {
+                        authors.add(new AuthorSummary(userId, "작성자" + userId,
+                                "user" + userId + "@example.com", "/uploads/profiles/" + userId + ".png"));
+                    }
+                    return authors;
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.community_spring.benchmark;
+
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.config.JwtProperties;
+import com.example.community_spring.util.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용
+ * 검증은 검증 캐시에 있는 토큰(요청마다 같은 토큰을 보내는 일반적인 경우)과
+ * 캐시에 없는 토큰(첫 요청, 서명 검증 포함)을 나눠 측정한다.
+ * 캐시 미스 쪽은 캐시 크기를 1로 두고 두 토큰을 번갈아 검증해서 매번 밀려나게 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+    private String[] alternatingTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = newProvider(10000);
+        uncachedProvider = newProvider(1);
+        token = cachedProvider.generateToken(42L);
+        alternatingTokens = new String[] {
+                uncachedProvider.generateToken(1L),
+                uncachedProvider.generateToken(2L)
+        };
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedProvider.generateToken(42L);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserIdFromTokenCached() {
+        return cachedProvider.getUserIdFromToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedProvider.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public Long getUserIdFromTokenUncached() {
+        return uncachedProvider.getUserIdFromToken(nextToken());
+    }
+
+    private String nextToken() {
+        next ^= 1;
+        return alternatingTokens[next];
+    }
+
+    private static JwtTokenProvider newProvider(int tokenCacheSize) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(Duration.ofDays(1).toMillis());
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setToken(new CacheProperties.Spec(tokenCacheSize, Duration.ofMinutes(30)));
+        return new JwtTokenProvider(jwtProperties, cacheProperties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.community_spring.benchmark;
+
+import com.example.community_spring.Post.DTO.response.PostListResponse;
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Entity.Post;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 생성 비용
+ * 엔티티 -> PostResponse 변환과 PostListResponse의 JSON 직렬화를 따로, 또 합쳐서 측정한다.
+ * ObjectMapper는 스프링 부트 기본 설정(날짜를 타임스탬프가 아닌 문자열로)과 같게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Post> posts;
+    private PostListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        posts = new ArrayList<>(pageSize);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (long i = 1; i <= pageSize; i++) {
+            posts.add(Post.builder()
+                    .postId(i)
+                    .userId(i % 7 + 1)
+                    .title("게시글 제목 " + i)
+                    .content("게시글 본문입니다. ".repeat(20))
+                    .postImage("/uploads/posts/" + i + ".png")
+                    .createdAt(createdAt.plusMinutes(i))
+                    .likes((int) (i * 3))
+                    .views((int) (i * 17))
+                    .commentCount((int) (i % 5))
+                    .authorNickname("작성자" + (i % 7 + 1))
+                    .authorEmail("user" + (i % 7 + 1) + "@example.com")
+                    .authorProfileImage("/uploads/profiles/" + (i % 7 + 1) + ".png")
+                    .build());
+        }
+        response = toListResponse(posts);
+    }
+
+    @Benchmark
+    public PostListResponse fromEntity() {
+        return toListResponse(posts);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] fromEntityAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toListResponse(posts));
+    }
+
+    private PostListResponse toListResponse(List<Post> page) {
+        List<PostResponse> responses = new ArrayList<>(page.size());
+        for (Post post : page) {
+            responses.add(PostResponse.fromEntity(post));
+        }
+        return PostListResponse.builder()
+                .posts(responses)
+                .currentPage(1)
+                .totalPages(100)
+                .totalPosts(100 * page.size())
+                .hasNext(true)
+                .hasPrevious(false)
+                .build();
+    }
+}
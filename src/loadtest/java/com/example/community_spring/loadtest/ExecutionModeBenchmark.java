@@ -0,0 +1,214 @@
+package com.example.community_spring.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 모드별 게시글 목록/상세 엔드포인트 부하 측정
+ * 실행 중인 서버에 동시 사용자 수(concurrency)만큼 요청을 쉬지 않고 보내고
+ * 처리량과 지연 시간 백분위를 출력한 뒤 결과를 CSV에 누적한다.
+ *
+ * 서버를 spring.threads.virtual.enabled=false/true로 각각 띄운 뒤 mode 값을 바꿔 실행하면
+ * 같은 CSV에 두 모드의 결과가 쌓여서 비교할 수 있다.
+ */
+public class ExecutionModeBenchmark {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        String mode = System.getProperty("mode", "unknown");
+        String baseUrl = System.getProperty("baseUrl", "http://localhost:8080");
+        String postId = System.getProperty("postId", "1");
+        int[] concurrencyLevels = Arrays.stream(System.getProperty("concurrency", "50,200,800").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = parseDuration(System.getProperty("duration", "20s"));
+        Path output = Path.of(System.getProperty("output", "build/loadtest/results.csv"));
+
+        Map<String, URI> endpoints = new LinkedHashMap<>();
+        endpoints.put("list", URI.create(baseUrl + "/api/posts?page=1"));
+        endpoints.put("detail", URI.create(baseUrl + "/api/posts/" + postId));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, URI> endpoint : endpoints.entrySet()) {
+            for (int concurrency : concurrencyLevels) {
+                run(client, endpoint.getValue(), concurrency, WARMUP);
+                Result result = run(client, endpoint.getValue(), concurrency, duration);
+                result.mode = mode;
+                result.endpoint = endpoint.getKey();
+                results.add(result);
+                System.out.println(result.toLine());
+            }
+        }
+
+        writeCsv(output, results);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    // concurrency개의 가상 스레드가 duration 동안 응답을 받는 즉시 다음 요청 전송 (closed loop)
+    private static Result run(HttpClient client, URI uri, int concurrency, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            recorder.record(System.nanoTime() - sent);
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : futures) {
+            merged.addAll(future.get());
+        }
+        return Result.of(concurrency, merged, errors.get(), elapsedNanos);
+    }
+
+    private static void writeCsv(Path output, List<Result> results) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        boolean header = !Files.exists(output);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            if (header) {
+                writer.println("mode,endpoint,concurrency,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms");
+            }
+            for (Result result : results) {
+                writer.println(result.toCsv());
+            }
+        }
+    }
+
+    private static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    /**
+     * 스레드별 지연 시간 기록 (작업이 끝난 뒤 한 번에 합침)
+     */
+    private static class LatencyRecorder {
+        private long[] latencies = new long[1024];
+        private int size;
+
+        private void record(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        private void addAll(LatencyRecorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.latencies[i]);
+            }
+        }
+
+        private long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private static class Result {
+        private String mode;
+        private String endpoint;
+        private int concurrency;
+        private long requests;
+        private long errors;
+        private double throughput;
+        private double p50;
+        private double p90;
+        private double p99;
+        private double max;
+
+        private static Result of(int concurrency, LatencyRecorder recorder, long errors, long elapsedNanos) {
+            long[] sorted = recorder.sorted();
+            Result result = new Result();
+            result.concurrency = concurrency;
+            result.requests = sorted.length;
+            result.errors = errors;
+            result.throughput = sorted.length / (elapsedNanos / 1_000_000_000.0);
+            result.p50 = percentile(sorted, 0.50);
+            result.p90 = percentile(sorted, 0.90);
+            result.p99 = percentile(sorted, 0.99);
+            result.max = sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0;
+            return result;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        private String toLine() {
+            return String.format("[%s] %-6s 동시 %4d: %8d건 (오류 %d), %9.1f req/s, p50 %.1fms, p90 %.1fms, p99 %.1fms, max %.1fms",
+                    mode, endpoint, concurrency, requests, errors, throughput, p50, p90, p99, max);
+        }
+
+        private String toCsv() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+                    mode, endpoint, concurrency, requests, errors, throughput, p50, p90, p99, max);
+        }
+    }
+}
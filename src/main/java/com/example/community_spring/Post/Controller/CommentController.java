@@ -4,16 +4,24 @@ import com.example.community_spring.Post.DTO.request.CreateCommentRequest;
 import com.example.community_spring.Post.DTO.request.UpdateCommentRequest;
 import com.example.community_spring.Post.DTO.response.CommentResponse;
 import com.example.community_spring.Post.Service.CommentService;
+import com.example.community_spring.Post.Service.ContentVersions;
 import com.example.community_spring.User.DTO.response.ApiResponse;
-import com.example.community_spring.util.JwtTokenProvider;
+import com.example.community_spring.auth.LoginUser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 @Slf4j
 @RestController
@@ -22,23 +30,50 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ContentVersions contentVersions;
+    private final ObjectMapper objectMapper;
 
     /**
      * 특정 게시글의 댓글 목록 조회 API
-     * GET /api/posts/{postId}/comments
+     * GET /api/posts/{postId}/comments?size={size}&cursor={cursor}
+     * GET /api/posts/{postId}/comments?all=true (페이지네이션 없이 전체 조회, 응답 본문을 스트리밍으로 작성)
+     * If-None-Match가 현재 ETag와 같으면 조회 없이 304
      */
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<ApiResponse<?>> getCommentsByPostId(@PathVariable Long postId) {
+    public ResponseEntity<?> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean all,
+            WebRequest webRequest) {
         try {
-            log.info("댓글 목록 조회 요청: 게시글 ID {}", postId);
+            log.info("댓글 목록 조회 요청: 게시글 ID {}, 커서 {}, 크기 {}", postId, cursor, size);
 
-            List<CommentResponse> comments = commentService.getCommentsByPostId(postId);
-            return ResponseEntity.ok(ApiResponse.builder()
-                    .success(true)
-                    .message("댓글 목록 조회에 성공했습니다.")
-                    .data(comments)
-                    .build());
+            String etag = contentVersions.commentsTag(postId);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            if (all) {
+                // 없는 게시글은 스트리밍 시작 전에 400으로 응답
+                commentService.checkPostExists(postId);
+                StreamingResponseBody body = outputStream -> writeComments(postId, outputStream);
+                return ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body);
+            }
+
+            Object comments = commentService.getCommentsByPostId(postId, cursor, size);
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.builder()
+                            .success(true)
+                            .message("댓글 목록 조회에 성공했습니다.")
+                            .data(comments)
+                            .build());
         } catch (IllegalArgumentException e) {
             log.warn("댓글 목록 조회 실패: {}", e.getMessage());
             return getBadRequestResponse(e.getMessage());
@@ -54,22 +89,15 @@ public class CommentController {
      */
     @PostMapping("/posts/{postId}/comments")
     public ResponseEntity<ApiResponse<?>> createComment(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @PathVariable Long postId,
             @RequestBody CreateCommentRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
             // 내용 검증
             if (!StringUtils.hasText(request.getContent())) {
                 return getBadRequestResponse("댓글 내용은 필수입니다.");
             }
 
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("댓글 작성 요청: 사용자 ID {}, 게시글 ID {}", userId, postId);
 
             CommentResponse createdComment = commentService.createComment(postId, userId, request);
@@ -94,22 +122,15 @@ public class CommentController {
      */
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<?>> updateComment(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @PathVariable Long commentId,
             @RequestBody UpdateCommentRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
             // 내용 검증
             if (!StringUtils.hasText(request.getContent())) {
                 return getBadRequestResponse("댓글 내용은 필수입니다.");
             }
 
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("댓글 수정 요청: 사용자 ID {}, 댓글 ID {}", userId, commentId);
 
             CommentResponse updatedComment = commentService.updateComment(commentId, userId, request);
@@ -133,16 +154,9 @@ public class CommentController {
      */
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<?>> deleteComment(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @PathVariable Long commentId) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("댓글 삭제 요청: 사용자 ID {}, 댓글 ID {}", userId, commentId);
 
             commentService.deleteComment(commentId, userId);
@@ -161,23 +175,22 @@ public class CommentController {
     }
 
     /**
-     * 토큰에서 사용자 ID 추출
+     * 전체 댓글을 ApiResponse와 같은 형태({"success", "message", "data": [...]})로 한 건씩 작성
+     * 응답이 이미 나가기 시작한 뒤라 오류 응답으로 바꿀 수 없으므로 로그만 남기고 연결을 끊는다.
      */
-    private Long extractUserIdFromToken(String authHeader) {
-        // 토큰 형식 검증
-        if (!StringUtils.hasText(authHeader) || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        // 헤더에서 Bearer 제거 후 토큰 문자열 가져오기
-        String jwt = authHeader.substring(7);
-
-        if (!jwtTokenProvider.validateToken(jwt)) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+    private void writeComments(Long postId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "댓글 목록 조회에 성공했습니다.");
+            generator.writeArrayFieldStart("data");
+            commentService.streamCommentsByPostId(postId, generator::writeObject);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            log.error("댓글 목록 스트리밍 중 오류 발생: 게시글 ID {}", postId, e);
+            throw e;
         }
-
-        // JWT 토큰에서 사용자 ID 추출
-        return jwtTokenProvider.getUserIdFromToken(jwt);
     }
 
     /**
@@ -192,18 +205,6 @@ public class CommentController {
                         .build());
     }
 
-    /**
-     * Unauthorized 응답 생성
-     */
-    private ResponseEntity<ApiResponse<?>> getUnauthorizedResponse(String message) {
-        return ResponseEntity.status(401)
-                .body(ApiResponse.builder()
-                        .success(false)
-                        .message(message)
-                        .data(null)
-                        .build());
-    }
-
     /**
      * Server Error 응답 생성
      */
@@ -4,16 +4,23 @@ import com.example.community_spring.Post.DTO.request.CreatePostRequest;
 import com.example.community_spring.Post.DTO.request.UpdatePostRequest;
 import com.example.community_spring.Post.DTO.response.PostListResponse;
 import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Service.ContentVersions;
+import com.example.community_spring.Post.Service.LikesService;
 import com.example.community_spring.Post.Service.PostService;
+import com.example.community_spring.Post.Service.TrendingService;
 import com.example.community_spring.User.DTO.response.ApiResponse;
-import com.example.community_spring.util.JwtTokenProvider;
+import com.example.community_spring.auth.LoginUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -22,30 +29,121 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final LikesService likesService;
+    private final TrendingService trendingService;
+    private final ContentVersions contentVersions;
 
     /**
      * 게시글 목록 조회 API
      * GET /api/posts?page={page}
+     * GET /api/posts?cursor={cursor} (커서 모드, 첫 페이지는 빈 cursor 값으로 요청)
+     * likedByMe=true를 함께 보내면 로그인 사용자의 좋아요 여부를 각 게시글에 포함
+     * If-None-Match가 현재 ETag와 같으면 조회 없이 304
      */
     @GetMapping
     public ResponseEntity<ApiResponse<?>> getPosts(
+            @LoginUser(required = false) Long userId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean likedByMe,
+            WebRequest webRequest) {
+        try {
+            if (cursor == null && page < 1) {
+                return getBadRequestResponse("페이지 번호는 1 이상이어야 합니다.");
+            }
+
+            boolean personalized = likedByMe && userId != null;
+            String etag = contentVersions.feedTag(personalized ? userId : null);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+
+            PostListResponse response;
+            if (cursor != null) {
+                log.info("게시글 목록 조회 요청: 커서 {}", cursor);
+                response = postService.getPostsByCursor(cursor);
+            } else {
+                log.info("게시글 목록 조회 요청: 페이지 {}", page);
+                response = postService.getPosts(page);
+            }
+
+            // 좋아요 여부 표시 (요청한 경우에만)
+            if (personalized) {
+                likesService.markLikedByMe(response.getPosts(), userId);
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.builder()
+                            .success(true)
+                            .message("게시글 목록 조회에 성공했습니다.")
+                            .data(response)
+                            .build());
+        } catch (IllegalArgumentException e) {
+            log.warn("게시글 목록 조회 실패: {}", e.getMessage());
+            return getBadRequestResponse(e.getMessage());
+        } catch (Exception e) {
+            log.error("게시글 목록 조회 중 오류 발생", e);
+            return getServerErrorResponse();
+        }
+    }
+
+    /**
+     * 인기 게시글 목록 조회 API
+     * GET /api/posts/trending?limit={limit}
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<?>> getTrendingPosts(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            log.info("인기 게시글 목록 조회 요청: 개수 {}", limit);
+
+            if (limit < 1 || limit > trendingService.getTopK()) {
+                return getBadRequestResponse("조회 개수는 1 이상 " + trendingService.getTopK() + " 이하여야 합니다.");
+            }
+
+            List<PostResponse> posts = trendingService.getTrending(limit);
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("인기 게시글 목록 조회에 성공했습니다.")
+                    .data(posts)
+                    .build());
+        } catch (Exception e) {
+            log.error("인기 게시글 목록 조회 중 오류 발생", e);
+            return getServerErrorResponse();
+        }
+    }
+
+    /**
+     * 게시글 검색 API
+     * GET /api/posts/search?q={query}&page={page}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<?>> searchPosts(
+            @RequestParam String q,
             @RequestParam(defaultValue = "1") int page) {
         try {
-            log.info("게시글 목록 조회 요청: 페이지 {}", page);
+            log.info("게시글 검색 요청: 검색어 {}, 페이지 {}", q, page);
+
+            if (!StringUtils.hasText(q) || q.trim().length() > 100) {
+                return getBadRequestResponse("검색어는 1자 이상 100자 이하여야 합니다.");
+            }
 
             if (page < 1) {
                 return getBadRequestResponse("페이지 번호는 1 이상이어야 합니다.");
             }
 
-            PostListResponse response = postService.getPosts(page);
+            PostListResponse response = postService.searchPosts(q.trim(), page);
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
-                    .message("게시글 목록 조회에 성공했습니다.")
+                    .message("게시글 검색에 성공했습니다.")
                     .data(response)
                     .build());
+        } catch (IllegalArgumentException e) {
+            log.warn("게시글 검색 실패: {}", e.getMessage());
+            return getBadRequestResponse(e.getMessage());
         } catch (Exception e) {
-            log.error("게시글 목록 조회 중 오류 발생", e);
+            log.error("게시글 검색 중 오류 발생", e);
             return getServerErrorResponse();
         }
     }
@@ -53,18 +151,28 @@ public class PostController {
     /**
      * 게시글 상세 조회 API
      * GET /api/posts/{post_id}
+     * If-None-Match가 현재 ETag(약한 ETag, 조회수 제외)와 같으면 조회 없이 304 (조회수는 증가)
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<?>> getPost(@PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<?>> getPost(@PathVariable Long postId, WebRequest webRequest) {
         try {
             log.info("게시글 상세 조회 요청: 게시글 ID {}", postId);
 
+            String etag = contentVersions.postTag(postId);
+            if (webRequest.checkNotModified(etag)) {
+                postService.recordView(postId);
+                return null;
+            }
+
             PostResponse post = postService.getPost(postId);
-            return ResponseEntity.ok(ApiResponse.builder()
-                    .success(true)
-                    .message("게시글 조회에 성공했습니다.")
-                    .data(post)
-                    .build());
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(ApiResponse.builder()
+                            .success(true)
+                            .message("게시글 조회에 성공했습니다.")
+                            .data(post)
+                            .build());
         } catch (IllegalArgumentException e) {
             log.warn("게시글 조회 실패: {}", e.getMessage());
             return getBadRequestResponse(e.getMessage());
@@ -80,16 +188,9 @@ public class PostController {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<?>> createPost(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @RequestBody CreatePostRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("게시글 작성 요청: 사용자 ID {}", userId);
 
             // 제목 검증
@@ -124,17 +225,10 @@ public class PostController {
      */
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse<?>> updatePost(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @PathVariable Long postId,
             @RequestBody UpdatePostRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("게시글 수정 요청: 사용자 ID {}, 게시글 ID {}", userId, postId);
 
             // 제목 검증
@@ -168,16 +262,9 @@ public class PostController {
      */
     @DeleteMapping("/{postId}")
     public ResponseEntity<ApiResponse<?>> deletePost(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @PathVariable Long postId) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("게시글 삭제 요청: 사용자 ID {}, 게시글 ID {}", userId, postId);
 
             postService.deletePost(userId, postId);
@@ -198,19 +285,27 @@ public class PostController {
     /**
      * 특정 사용자의 게시글 목록 조회 API
      * GET /api/posts/user/{userId}?page={page}
+     * GET /api/posts/user/{userId}?cursor={cursor} (커서 모드, 첫 페이지는 빈 cursor 값으로 요청)
      */
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<?>> getPostsByUserId(
             @PathVariable Long userId,
-            @RequestParam(defaultValue = "1") int page) {
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor) {
         try {
-            log.info("사용자 게시글 목록 조회 요청: 사용자 ID {}, 페이지 {}", userId, page);
+            PostListResponse response;
+            if (cursor != null) {
+                log.info("사용자 게시글 목록 조회 요청: 사용자 ID {}, 커서 {}", userId, cursor);
+                response = postService.getPostsByUserIdCursor(userId, cursor);
+            } else {
+                log.info("사용자 게시글 목록 조회 요청: 사용자 ID {}, 페이지 {}", userId, page);
 
-            if (page < 1) {
-                return getBadRequestResponse("페이지 번호는 1 이상이어야 합니다.");
-            }
+                if (page < 1) {
+                    return getBadRequestResponse("페이지 번호는 1 이상이어야 합니다.");
+                }
 
-            PostListResponse response = postService.getPostsByUserId(userId, page);
+                response = postService.getPostsByUserId(userId, page);
+            }
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
                     .message("사용자 게시글 목록 조회에 성공했습니다.")
@@ -225,24 +320,6 @@ public class PostController {
         }
     }
 
-    /**
-     * 토큰에서 사용자 ID 추출
-     */
-    private Long extractUserIdFromToken(String authHeader) {
-        // 토큰 형식 검증
-        if (!StringUtils.hasText(authHeader) || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        // 헤더에서 Bearer 제거 후 토큰 문자열 가져오기
-        String jwt = authHeader.substring(7);
-
-        if (!jwtTokenProvider.validateToken(jwt)) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다");
-        }
-        return jwtTokenProvider.getUserIdFromToken(jwt);
-    }
-
     /**
      * Bad Request 응답 생성
      */
@@ -255,18 +332,6 @@ public class PostController {
                         .build());
     }
 
-    /**
-     * Unauthorized 응답 생성
-     */
-    private ResponseEntity<ApiResponse<?>> getUnauthorizedResponse(String message) {
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.builder()
-                        .success(false)
-                        .message(message)
-                        .data(null)
-                        .build());
-    }
-
     /**
      * Server Error 응답 생성
      */
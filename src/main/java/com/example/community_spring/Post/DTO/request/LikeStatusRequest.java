@@ -0,0 +1,16 @@
+package com.example.community_spring.Post.DTO.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStatusRequest {
+    private List<Long> postIds;
+}
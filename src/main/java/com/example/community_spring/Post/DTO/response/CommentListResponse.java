@@ -0,0 +1,20 @@
+package com.example.community_spring.Post.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentListResponse {
+    private List<CommentResponse> comments;
+    private boolean hasNext;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.example.community_spring.Post.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeResponse {
+    private Long postId;
+    private boolean liked;
+    private int likeCount;
+
+    // 좋아요 상태 일괄 조회 JPQL 프로젝션용 생성자
+    public LikeResponse(Long postId, Boolean liked, Integer likeCount) {
+        this(postId, Boolean.TRUE.equals(liked), likeCount != null ? likeCount : 0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.community_spring.Post.DTO.response;
+
+/**
+ * 좋아요 토글 직전 상태 (게시글 행을 잠그고 읽은 좋아요 수와 요청 사용자의 좋아요 행 ID)
+ * 네이티브 쿼리 결과를 받는 인터페이스 프로젝션
+ */
+public interface LikeToggleState {
+    Integer getLikes();
+
+    // 좋아요를 누르지 않은 상태면 null
+    Long getLikeId();
+}
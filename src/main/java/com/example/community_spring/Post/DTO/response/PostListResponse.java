@@ -18,4 +18,7 @@ public class PostListResponse {
     private int totalPosts;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // 커서 기반 조회 시 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
 }
\ No newline at end of file
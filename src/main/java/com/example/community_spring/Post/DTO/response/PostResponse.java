@@ -1,6 +1,7 @@
 package com.example.community_spring.Post.DTO.response;
 
 import com.example.community_spring.Post.Entity.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,7 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
@@ -21,12 +22,30 @@ public class PostResponse {
     private LocalDateTime createdAt;
     private Integer likes;
     private Integer views;
+    private Integer commentCount;
 
     // 작성자 정보
     private String authorNickname;
     private String authorEmail;
     private String authorProfileImage;
 
+    // 요청 사용자의 좋아요 여부 (likedByMe=true로 요청한 경우에만 포함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+
+    // 목록용 프로젝션 생성자 (본문 제외, 작성자 정보는 이후 보강)
+    public PostResponse(Long postId, Long userId, String title, String postImage, LocalDateTime createdAt,
+                        Integer likes, Integer views, Integer commentCount) {
+        this.postId = postId;
+        this.userId = userId;
+        this.title = title;
+        this.postImage = postImage;
+        this.createdAt = createdAt;
+        this.likes = likes;
+        this.views = views;
+        this.commentCount = commentCount;
+    }
+
     // Post 엔티티를 PostResponse DTO로 변환
     public static PostResponse fromEntity(Post post) {
         return PostResponse.builder()
@@ -38,6 +57,7 @@ public class PostResponse {
                 .createdAt(post.getCreatedAt())
                 .likes(post.getLikes())
                 .views(post.getViews())
+                .commentCount(post.getCommentCount())
                 .authorNickname(post.getAuthorNickname())
                 .authorEmail(post.getAuthorEmail())
                 .authorProfileImage(post.getAuthorProfileImage())
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Comment")
+@Table(name = "Comment", indexes = {
+        @Index(name = "idx_comment_post_id_comment_at", columnList = "post_id, comment_at, comment_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -5,11 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "Post")
+@Table(name = "Post", indexes = {
+        @Index(name = "idx_post_created_at_post_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_post_user_id_created_at_post_id", columnList = "user_id, created_at, post_id"),
+        @Index(name = "idx_post_deleted_at", columnList = "deleted_at")
+})
+// 삭제 표시된 게시글은 모든 엔티티 조회에서 제외 (실제 행은 PostPurgeWorker가 정리)
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +46,14 @@ public class Post {
     @Column(name = "views")
     private Integer views;
 
+    // 댓글 수 (댓글 작성/삭제 시 함께 갱신, 기존 행은 CommentCountBackfill이 채움)
+    @Column(name = "comment_count")
+    private Integer commentCount;
+
+    // 삭제 표시 시각 (null이면 삭제되지 않은 게시글)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // 나머지 필드는 그대로 유지
     @Transient
     private String authorNickname;
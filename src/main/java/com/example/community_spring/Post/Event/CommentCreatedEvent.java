@@ -0,0 +1,15 @@
+package com.example.community_spring.Post.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 작성 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCreatedEvent {
+    private final Long postId;
+    private final Long commentId;
+    private final Long userId;
+}
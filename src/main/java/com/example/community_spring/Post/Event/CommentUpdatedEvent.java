@@ -0,0 +1,14 @@
+package com.example.community_spring.Post.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 수정 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CommentUpdatedEvent {
+    private final Long postId;
+    private final Long commentId;
+}
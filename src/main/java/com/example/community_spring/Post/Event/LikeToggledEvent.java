@@ -0,0 +1,15 @@
+package com.example.community_spring.Post.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 추가/취소 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class LikeToggledEvent {
+    private final Long postId;
+    private final Long userId;
+    private final boolean liked;
+}
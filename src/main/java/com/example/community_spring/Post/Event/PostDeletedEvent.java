@@ -0,0 +1,14 @@
+package com.example.community_spring.Post.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 삭제 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostDeletedEvent {
+    private final Long postId;
+    private final Long userId;
+}
@@ -0,0 +1,14 @@
+package com.example.community_spring.Post.Event;
+
+import com.example.community_spring.Post.Entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 수정 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostUpdatedEvent {
+    private final Post post;
+}
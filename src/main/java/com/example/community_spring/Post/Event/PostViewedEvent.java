@@ -0,0 +1,13 @@
+package com.example.community_spring.Post.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 조회 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewedEvent {
+    private final Long postId;
+}
@@ -1,16 +1,59 @@
 package com.example.community_spring.Post.Repository;
 
+import com.example.community_spring.Post.DTO.response.CommentResponse;
 import com.example.community_spring.Post.Entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostIdOrderByCommentAtAsc(Long postId);
+    // 게시글 댓글 전체를 작성자 정보와 함께 스트리밍 조회 (fetch size Integer.MIN_VALUE: MySQL 드라이버가 한 행씩 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new com.example.community_spring.Post.DTO.response.CommentResponse(" +
+            "c.commentId, c.postId, c.userId, c.content, c.commentAt, u.nickname, u.profileImage) " +
+            "FROM Comment c LEFT JOIN User u ON u.userId = c.userId " +
+            "WHERE c.postId = :postId " +
+            "ORDER BY c.commentAt ASC, c.commentId ASC")
+    Stream<CommentResponse> streamCommentResponsesByPostId(@Param("postId") Long postId);
+
+    // 댓글 첫 페이지 조회 (작성순)
+    List<Comment> findByPostIdOrderByCommentAtAscCommentIdAsc(Long postId, Pageable pageable);
+
+    // 키셋 페이지네이션 다음 페이지: 커서 (commentAt, commentId) 이후 댓글 조회
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.postId = :postId " +
+            "AND (c.commentAt > :commentAt OR (c.commentAt = :commentAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.commentAt ASC, c.commentId ASC")
+    List<Comment> findCommentsAfterCursor(@Param("postId") Long postId,
+                                          @Param("commentAt") LocalDateTime commentAt,
+                                          @Param("commentId") Long commentId,
+                                          Pageable pageable);
 
     int countByPostId(Long postId);
 
-    void deleteAllByPostId(Long postId);
-}
\ No newline at end of file
+    // 게시글의 댓글을 최대 limit개씩 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM Comment WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    // 사용자의 댓글을 최대 limit개 조회 (회원 탈퇴 정리용)
+    @Query(value = "SELECT * FROM Comment WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    List<Comment> findByUserIdWithLimit(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // 댓글 ID 목록으로 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.commentId IN :commentIds")
+    int deleteByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+}
@@ -1,16 +1,64 @@
 package com.example.community_spring.Post.Repository;
 
+import com.example.community_spring.Post.DTO.response.LikeResponse;
+import com.example.community_spring.Post.DTO.response.LikeToggleState;
 import com.example.community_spring.Post.Entity.Likes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface LikesRepository extends JpaRepository<Likes, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
 
     int countByPostId(Long postId);
 
-    void deleteByPostIdAndUserId(Long postId, Long userId);
+    // 게시글의 좋아요를 최대 limit개씩 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM Likes WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    int deleteBatchByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    // 사용자가 좋아요를 누른 전체 게시글 ID 조회 (좋아요 인덱스 적재용)
+    @Query("SELECT l.postId FROM Likes l WHERE l.userId = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    // 게시글별 좋아요 상태와 좋아요 수 일괄 조회 (게시글 목록 한 페이지 분량을 한 번의 IN 쿼리로 처리)
+    @Query("SELECT new com.example.community_spring.Post.DTO.response.LikeResponse(" +
+            "p.postId, CASE WHEN l.likeId IS NULL THEN false ELSE true END, p.likes) " +
+            "FROM Post p LEFT JOIN Likes l ON l.postId = p.postId AND l.userId = :userId " +
+            "WHERE p.postId IN :postIds")
+    List<LikeResponse> findLikeStatuses(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 토글 전 상태 조회: 게시글 행을 배타 잠금(FOR UPDATE)으로 먼저 잡아 같은 게시글의 토글을 직렬화
+    // 삭제 표시된 게시글이나 없는 게시글이면 빈 결과
+    @Query(value = "SELECT p.likes AS likes, l.like_id AS likeId FROM Post p " +
+            "LEFT JOIN Likes l ON l.post_id = p.post_id AND l.user_id = :userId " +
+            "WHERE p.post_id = :postId AND p.deleted_at IS NULL FOR UPDATE",
+            nativeQuery = true)
+    Optional<LikeToggleState> lockToggleState(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 추가 (게시글 행을 잠근 뒤에만 호출, 삽입된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO Likes (post_id, user_id) VALUES (:postId, :userId)", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 취소: 단일 DELETE 문으로 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.postId = :postId AND l.userId = :userId")
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 사용자가 좋아요를 누른 게시글 ID를 최대 limit개 조회 (회원 탈퇴 정리용)
+    @Query(value = "SELECT post_id FROM Likes WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 
-    void deleteAllByPostId(Long postId);
-}
\ No newline at end of file
+    // 사용자의 좋아요 중 지정한 게시글의 좋아요 삭제
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.userId = :userId AND l.postId IN :postIds")
+    int deleteByUserIdAndPostIdIn(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+}
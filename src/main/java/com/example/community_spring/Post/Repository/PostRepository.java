@@ -1,7 +1,7 @@
 package com.example.community_spring.Post.Repository;
 
+import com.example.community_spring.Post.DTO.response.PostResponse;
 import com.example.community_spring.Post.Entity.Post;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,23 +9,127 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    // 페이징을 사용한 사용자 ID로 게시글 조회
-    Page<Post> findByUserId(Long userId, Pageable pageable);
+    // 사용자별 게시글 목록 조회 (목록에 필요한 컬럼만 프로젝션, COUNT 쿼리 없음)
+    @Query("SELECT new com.example.community_spring.Post.DTO.response.PostResponse(" +
+            "p.postId, p.userId, p.title, p.postImage, p.createdAt, p.likes, p.views, p.commentCount) " +
+            "FROM Post p WHERE p.userId = :userId " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostResponse> findUserPostSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 게시글 키셋 페이지네이션 다음 페이지: 커서 (createdAt, postId) 이후 게시글 조회
+    @Query("SELECT new com.example.community_spring.Post.DTO.response.PostResponse(" +
+            "p.postId, p.userId, p.title, p.postImage, p.createdAt, p.likes, p.views, p.commentCount) " +
+            "FROM Post p WHERE p.userId = :userId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostResponse> findUserPostSummariesBeforeCursor(@Param("userId") Long userId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("postId") Long postId,
+                                                         Pageable pageable);
+
+    // 사용자별 게시글 수
+    long countByUserId(Long userId);
+
+    // postId 순서대로 게시글 조회 (검색 색인 적재용)
+    List<Post> findByPostIdGreaterThanOrderByPostIdAsc(Long postId, Pageable pageable);
+
+    // 지정 시각 이후 작성된 게시글 조회 (인기 게시글 집계 적재용)
+    List<Post> findByCreatedAtAfter(LocalDateTime createdAt);
+
+    // 최신순 게시글 조회 (COUNT 쿼리 없음)
+    List<Post> findAllByOrderByCreatedAtDescPostIdDesc(Pageable pageable);
+
+    // 키셋 페이지네이션 다음 페이지: 커서 (createdAt, postId) 이후 게시글 조회
+    @Query("SELECT p FROM Post p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findPostsBeforeCursor(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("postId") Long postId,
+                                     Pageable pageable);
 
-    // 게시글 조회수 증가
+    // 게시글 조회수 일괄 증가 (조회수 버퍼 반영용)
     @Modifying
-    @Query("UPDATE Post p SET p.views = p.views + 1 WHERE p.postId = :postId")
-    void incrementViews(@Param("postId") Long postId);
+    @Query("UPDATE Post p SET p.views = p.views + :delta WHERE p.postId IN :postIds")
+    int addViews(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    // 게시글 좋아요 수 증감
+    @Modifying
+    @Query("UPDATE Post p SET p.likes = GREATEST(p.likes + :delta, 0) " +
+            "WHERE p.postId = :postId AND p.deletedAt IS NULL")
+    int addLikes(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 게시글 좋아요 수 조회 (좋아요 행 COUNT 대신 유지되는 카운터 사용)
+    @Query("SELECT p.likes FROM Post p WHERE p.postId = :postId")
+    Optional<Integer> findLikesByPostId(@Param("postId") Long postId);
+
+    // 게시글 댓글 수 증감 (게시글이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount + :delta, 0) " +
+            "WHERE p.postId = :postId AND p.deletedAt IS NULL")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 댓글 수가 채워지지 않은 게시글의 댓글 수를 ID 구간 단위로 계산해 채움
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.comment_count = " +
+            "(SELECT COUNT(*) FROM Comment c WHERE c.post_id = p.post_id) " +
+            "WHERE p.post_id BETWEEN :fromId AND :toId AND p.comment_count IS NULL",
+            nativeQuery = true)
+    int backfillCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 가장 큰 게시글 ID
+    @Query("SELECT MAX(p.postId) FROM Post p")
+    Optional<Long> findMaxPostId();
+
+    // 게시글 삭제 표시 (하위 데이터는 PostPurgeWorker가 나중에 정리)
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :deletedAt WHERE p.postId = :postId AND p.deletedAt IS NULL")
+    int markDeleted(@Param("postId") Long postId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 정리 대기 중인 삭제 표시 게시글 ID (오래된 순)
+    @Query(value = "SELECT p.post_id FROM Post p WHERE p.deleted_at IS NOT NULL " +
+            "ORDER BY p.deleted_at, p.post_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDeletedPostIds(@Param("limit") int limit);
+
+    // 정리 대기 중인 삭제 표시 게시글 수
+    @Query(value = "SELECT COUNT(*) FROM Post p WHERE p.deleted_at IS NOT NULL", nativeQuery = true)
+    long countDeletedPosts();
+
+    // 하위 데이터 정리가 끝난 게시글 행 삭제
+    @Modifying
+    @Query(value = "DELETE FROM Post WHERE post_id = :postId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeletedPost(@Param("postId") Long postId);
+
+    // 사용자의 삭제되지 않은 게시글 ID를 최대 limit개 잠금 조회 (회원 탈퇴 정리용, 같은 트랜잭션에서 삭제 표시)
+    @Query(value = "SELECT post_id FROM Post WHERE user_id = :userId AND deleted_at IS NULL " +
+            "LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockLivePostIdsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // 여러 게시글 삭제 표시 (이미 삭제 표시된 게시글은 제외)
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :deletedAt WHERE p.postId IN :postIds AND p.deletedAt IS NULL")
+    int markDeletedIn(@Param("postIds") Collection<Long> postIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 여러 게시글 행을 ID 순서로 배타 잠금 (회원 탈퇴 정리에서 좋아요/댓글 삭제 전에 호출해 Post -> Likes/Comment 잠금 순서 유지)
+    @Query(value = "SELECT post_id FROM Post WHERE post_id IN :postIds ORDER BY post_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockPostIdsIn(@Param("postIds") Collection<Long> postIds);
 
-    // 게시글 좋아요 수 증가
+    // 여러 게시글의 좋아요 수를 1씩 감소
     @Modifying
-    @Query("UPDATE Post p SET p.likes = p.likes + 1 WHERE p.postId = :postId")
-    void incrementLikes(@Param("postId") Long postId);
+    @Query("UPDATE Post p SET p.likes = GREATEST(p.likes - 1, 0) WHERE p.postId IN :postIds")
+    int decrementLikes(@Param("postIds") Collection<Long> postIds);
 
-    // 게시글 좋아요 수 감소
+    // 여러 게시글의 댓글 수를 같은 양만큼 감소
     @Modifying
-    @Query("UPDATE Post p SET p.likes = GREATEST(p.likes - 1, 0) WHERE p.postId = :postId")
-    void decrementLikes(@Param("postId") Long postId);
-}
\ No newline at end of file
+    @Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount - :delta, 0) WHERE p.postId IN :postIds")
+    int subtractCommentCount(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+}
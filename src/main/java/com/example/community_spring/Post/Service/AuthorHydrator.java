@@ -0,0 +1,127 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Entity.Comment;
+import com.example.community_spring.Post.Entity.Post;
+import com.example.community_spring.User.DTO.response.AuthorSummary;
+import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.User.Service.AuthorSummaryCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 목록의 작성자 정보를 한 번의 쿼리로 채워 넣는 컴포넌트
+ * 결과 집합의 userId를 중복 없이 모아 캐시에 없는 사용자만 일괄 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorHydrator {
+
+    private final UserRepository userRepository;
+    private final AuthorSummaryCache authorSummaryCache;
+
+    /**
+     * 게시글 목록에 작성자 정보 채우기
+     */
+    public void hydratePosts(List<Post> posts) {
+        Set<Long> userIds = posts.stream()
+                .map(Post::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, AuthorSummary> authors = loadAuthors(userIds);
+
+        for (Post post : posts) {
+            AuthorSummary author = authors.get(post.getUserId());
+            if (author != null) {
+                post.setAuthorNickname(author.getNickname());
+                post.setAuthorEmail(author.getEmail());
+                post.setAuthorProfileImage(author.getProfileImage());
+            }
+        }
+    }
+
+    /**
+     * 단일 게시글에 작성자 정보 채우기
+     */
+    public Post hydratePost(Post post) {
+        hydratePosts(Collections.singletonList(post));
+        return post;
+    }
+
+    /**
+     * 프로젝션으로 조회한 게시글 응답 목록에 작성자 정보 채우기
+     */
+    public void hydratePostResponses(List<PostResponse> posts) {
+        Set<Long> userIds = posts.stream()
+                .map(PostResponse::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, AuthorSummary> authors = loadAuthors(userIds);
+
+        for (PostResponse post : posts) {
+            AuthorSummary author = authors.get(post.getUserId());
+            if (author != null) {
+                post.setAuthorNickname(author.getNickname());
+                post.setAuthorEmail(author.getEmail());
+                post.setAuthorProfileImage(author.getProfileImage());
+            }
+        }
+    }
+
+    /**
+     * 댓글 목록에 작성자 정보 채우기
+     */
+    public void hydrateComments(List<Comment> comments) {
+        Set<Long> userIds = comments.stream()
+                .map(Comment::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, AuthorSummary> authors = loadAuthors(userIds);
+
+        for (Comment comment : comments) {
+            AuthorSummary author = authors.get(comment.getUserId());
+            if (author != null) {
+                comment.setAuthorNickname(author.getNickname());
+                comment.setAuthorProfileImage(author.getProfileImage());
+            }
+        }
+    }
+
+    /**
+     * userId 목록으로 작성자 요약 정보 일괄 조회 (캐시 우선)
+     */
+    public Map<Long, AuthorSummary> loadAuthors(Collection<Long> userIds) {
+        Set<Long> distinctIds = new HashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, AuthorSummary> authors = new HashMap<>();
+        // 캐시에 없는 사용자 -> 조회 전 캐시 버전 (조회 중 프로필이 바뀌면 이전 값을 캐시에 넣지 않도록)
+        Map<Long, Long> missingStamps = new HashMap<>();
+        for (Long userId : distinctIds) {
+            AuthorSummary cached = authorSummaryCache.get(userId);
+            if (cached != null) {
+                authors.put(userId, cached);
+            } else {
+                missingStamps.put(userId, authorSummaryCache.stamp(userId));
+            }
+        }
+
+        // 캐시에 없는 사용자만 한 번에 조회
+        if (!missingStamps.isEmpty()) {
+            for (AuthorSummary author : userRepository.findAuthorSummariesByUserIdIn(missingStamps.keySet())) {
+                authorSummaryCache.putIfUnchanged(author, missingStamps.get(author.getUserId()));
+                authors.put(author.getUserId(), author);
+            }
+        }
+        return authors;
+    }
+}
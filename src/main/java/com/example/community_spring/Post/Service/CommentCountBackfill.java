@@ -0,0 +1,61 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 게시글의 댓글 수 채우기
+ * comment_count가 비어 있는(NULL) 게시글만 postId 구간 단위로 나눠 COUNT 결과를 채운다.
+ * 구간마다 별도 트랜잭션으로 처리해서 잠금을 오래 잡지 않으며, 이미 채워진 행은 건너뛰므로
+ * 시작할 때마다 실행해도 처음 한 번 이후에는 비용이 거의 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountBackfill {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${post.comment-count.backfill-enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.comment-count.backfill-chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * 댓글 수가 비어 있는 게시글의 댓글 수 채우기
+     *
+     * @return 채워진 게시글 수
+     */
+    public long backfill() {
+        long maxPostId = postRepository.findMaxPostId().orElse(0L);
+        long updated = 0;
+
+        for (long start = 1; start <= maxPostId; start += chunkSize) {
+            long fromId = start;
+            long toId = Math.min(start + chunkSize - 1, maxPostId);
+            Integer count = transactionTemplate.execute(status ->
+                    postRepository.backfillCommentCounts(fromId, toId));
+            updated += count != null ? count : 0;
+        }
+
+        if (updated > 0) {
+            log.info("댓글 수 채우기 완료: 게시글 {}건", updated);
+        }
+        return updated;
+    }
+}
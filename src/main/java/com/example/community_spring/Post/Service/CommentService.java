@@ -2,20 +2,30 @@ package com.example.community_spring.Post.Service;
 
 import com.example.community_spring.Post.DTO.request.CreateCommentRequest;
 import com.example.community_spring.Post.DTO.request.UpdateCommentRequest;
+import com.example.community_spring.Post.DTO.response.CommentListResponse;
 import com.example.community_spring.Post.DTO.response.CommentResponse;
 import com.example.community_spring.Post.Entity.Comment;
+import com.example.community_spring.Post.Event.CommentCreatedEvent;
+import com.example.community_spring.Post.Event.CommentDeletedEvent;
+import com.example.community_spring.Post.Event.CommentUpdatedEvent;
 import com.example.community_spring.Post.Repository.CommentRepository;
 import com.example.community_spring.Post.Repository.PostRepository;
-import com.example.community_spring.User.Entity.User;
 import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,48 +34,96 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final AuthorHydrator authorHydrator;
+    private final ApplicationEventPublisher eventPublisher;
 
+    private static final int MAX_PAGE_SIZE = 100; // 댓글 페이지 최대 크기
+
+    /**
+     * 댓글 전체를 작성순으로 한 건씩 writer에 넘김 (all=true로 명시적으로 요청한 경우에만 사용)
+     * 작성자 정보를 조인한 프로젝션을 JDBC 스트리밍으로 읽기 때문에 목록을 메모리에 모으지 않으며,
+     * 스트림을 다 읽을 때까지 트랜잭션(커넥션)을 유지하므로 writer는 응답 스트림에 바로 쓰기만 해야 한다.
+     */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByPostId(Long postId) {
-        // 게시글이 존재하는지 확인
-        postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+    public void streamCommentsByPostId(Long postId, CommentWriter writer) throws IOException {
+        try (Stream<CommentResponse> comments = commentRepository.streamCommentResponsesByPostId(postId)) {
+            Iterator<CommentResponse> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+    }
 
-        // 댓글 목록 조회
-        List<Comment> comments = commentRepository.findByPostIdOrderByCommentAtAsc(postId);
+    /**
+     * 게시글 존재 여부 확인 (응답을 쓰기 시작하기 전에 검증)
+     */
+    @Transactional(readOnly = true)
+    public void checkPostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+    }
 
-        // 각 댓글에 최신 사용자 정보 보강
-        List<CommentResponse> result = new ArrayList<>();
+    /**
+     * 댓글 목록 조회 (커서 기반 키셋 페이지네이션)
+     * 전체 댓글을 읽지 않고 (commentAt, commentId) 이후 댓글을 size개만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CommentListResponse getCommentsByPostId(Long postId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
 
-        for (Comment comment : comments) {
-            User user = userRepository.findById(comment.getUserId()).orElse(null);
+        // 게시글이 존재하는지 확인
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
 
-            if (user != null) {
-                comment.setAuthorNickname(user.getNickname());
-                comment.setAuthorProfileImage(user.getProfileImage());
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
 
-                System.out.println("댓글 사용자 정보: userId=" + user.getUserId() +
-                        ", profileImage=" + user.getProfileImage());
-            } else {
-                System.out.println("댓글 작성자를 찾을 수 없음: userId=" + comment.getUserId());
-            }
+        List<Comment> comments;
+        if (StringUtils.hasText(cursor)) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            comments = commentRepository.findCommentsAfterCursor(postId, position.getAt(), position.getId(), limit);
+        } else {
+            comments = commentRepository.findByPostIdOrderByCommentAtAscCommentIdAsc(postId, limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        // 작성자 정보 일괄 보강
+        authorHydrator.hydrateComments(comments);
 
-            result.add(CommentResponse.fromEntity(comment));
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCommentAt(), last.getCommentId());
         }
 
-        return result;
+        return CommentListResponse.builder()
+                .comments(comments.stream()
+                        .map(CommentResponse::fromEntity)
+                        .collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Transactional
     public CommentResponse createComment(Long postId, Long userId, CreateCommentRequest request) {
-        // 게시글이 존재하는지 확인
-        postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
         // 사용자가 존재하는지 확인
         userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        // 게시글 댓글 수 증가 (갱신된 행이 없으면 게시글이 없는 경우)
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+
         // 댓글 엔티티 생성
         Comment comment = Comment.builder()
                 .postId(postId)
@@ -76,6 +134,7 @@ public class CommentService {
 
         // 댓글 저장 (반환 타입 변경)
         Comment savedComment = commentRepository.save(comment); // JPA는 저장 후 엔티티를 반환
+        eventPublisher.publishEvent(new CommentCreatedEvent(postId, savedComment.getCommentId(), userId));
 
         return CommentResponse.fromEntity(savedComment);
     }
@@ -95,6 +154,9 @@ public class CommentService {
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment); // update -> save
 
+        // 댓글 목록 ETag 갱신 (커밋 후 처리)
+        eventPublisher.publishEvent(new CommentUpdatedEvent(updatedComment.getPostId(), commentId));
+
         return CommentResponse.fromEntity(updatedComment);
     }
 
@@ -111,5 +173,17 @@ public class CommentService {
 
         // 댓글 삭제 (메소드 변경)
         commentRepository.deleteById(commentId); // delete(commentId) -> deleteById(commentId)
+
+        // 게시글 댓글 수 감소
+        postRepository.addCommentCount(comment.getPostId(), -1);
+        eventPublisher.publishEvent(new CommentDeletedEvent(comment.getPostId(), commentId));
+    }
+
+    /**
+     * 스트리밍 조회한 댓글을 한 건씩 받아 쓰는 대상
+     */
+    @FunctionalInterface
+    public interface CommentWriter {
+        void write(CommentResponse comment) throws IOException;
     }
-}
\ No newline at end of file
+}
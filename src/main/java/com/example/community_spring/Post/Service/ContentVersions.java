@@ -0,0 +1,151 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Event.CommentCreatedEvent;
+import com.example.community_spring.Post.Event.CommentDeletedEvent;
+import com.example.community_spring.Post.Event.CommentUpdatedEvent;
+import com.example.community_spring.Post.Event.LikeToggledEvent;
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Event.PostUpdatedEvent;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserProfileChangedEvent;
+import com.example.community_spring.User.Event.UserReactionsPurgedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조건부 GET(ETag)용 버전 카운터
+ * 게시글 목록 전체(feed)와 게시글별(상세, 댓글 목록) 버전을 두고, 게시글/댓글/좋아요 변경이 있을 때만 올린다.
+ * 컨트롤러는 조회 전에 버전으로 ETag를 만들어 If-None-Match와 같으면 조회 없이 304로 응답한다.
+ *
+ * 게시글별 버전은 postId 해시로 나눈 고정 크기 배열에 두어 게시글 수와 상관없이 메모리가 일정하고,
+ * 같은 칸을 쓰는 다른 게시글이 바뀌면 불필요하게 200이 나갈 뿐 변경이 누락되지는 않는다.
+ * 버전은 캐시 무효화(AFTER_COMMIT 리스너)가 모두 끝난 뒤(AFTER_COMPLETION)에 올려서
+ * 새 ETag가 무효화 전의 오래된 본문과 짝지어지는 일이 없도록 한다.
+ * 조회수는 쓰기 지연으로 반영되므로 버전에 포함하지 않는다. 그래서 조회수가 들어 있는 게시글 목록/상세는
+ * 같은 ETag에 조회수만 다른 본문이 나갈 수 있어 약한 ETag(W/)로 보내고, 304에서는 클라이언트가 가진 조회수가 그대로 쓰인다.
+ * 댓글 목록은 본문 전체가 버전에 반영되므로 강한 ETag를 쓴다.
+ */
+@Component
+public class ContentVersions {
+
+    private static final int POST_STRIPES = 4096;
+
+    // 재시작하면 이전 ETag가 모두 무효가 되도록 시작 시각을 포함
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong feedVersion = new AtomicLong();
+    private final AtomicLong globalVersion = new AtomicLong(); // 작성자 정보 변경, 일괄 삭제 등 모든 응답에 영향
+    private final AtomicLongArray postVersions = new AtomicLongArray(POST_STRIPES);
+
+    /**
+     * 게시글 목록 약한 ETag (좋아요 여부를 포함한 응답이면 사용자별로 구분)
+     */
+    public String feedTag(Long personalizedFor) {
+        String tag = "feed-" + epoch + "-" + globalVersion.get() + "-" + feedVersion.get();
+        return weak(personalizedFor != null ? tag + "-u" + personalizedFor : tag);
+    }
+
+    /**
+     * 게시글 상세 약한 ETag
+     */
+    public String postTag(Long postId) {
+        return weak("post-" + postId + "-" + epoch + "-" + globalVersion.get() + "-" + postVersion(postId));
+    }
+
+    /**
+     * 게시글 댓글 목록 ETag
+     */
+    public String commentsTag(Long postId) {
+        return quote("comments-" + postId + "-" + epoch + "-" + globalVersion.get() + "-" + postVersion(postId));
+    }
+
+    /**
+     * 게시글과 목록 버전 올리기 (이벤트 없이 데이터를 바꾸는 정리 작업에서 직접 호출)
+     */
+    public void bumpPost(Long postId) {
+        long version = sequence.incrementAndGet();
+        postVersions.accumulateAndGet(stripe(postId), version, Math::max);
+        feedVersion.set(version);
+    }
+
+    /**
+     * 모든 목록/게시글 버전 올리기 (어떤 게시글이 바뀌었는지 모르는 일괄 변경용)
+     */
+    public void bumpAll() {
+        globalVersion.set(sequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onPostCreated(PostCreatedEvent event) {
+        bumpPost(event.getPost().getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onPostUpdated(PostUpdatedEvent event) {
+        bumpPost(event.getPost().getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onPostDeleted(PostDeletedEvent event) {
+        bumpPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onLikeToggled(LikeToggledEvent event) {
+        bumpPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        bumpPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        bumpPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        bumpPost(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        bumpAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onUserDeleted(UserDeletedEvent event) {
+        bumpAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onUserReactionsPurged(UserReactionsPurgedEvent event) {
+        event.getRemovedLikes().keySet().forEach(this::bumpPost);
+        event.getRemovedComments().keySet().forEach(this::bumpPost);
+    }
+
+    private long postVersion(Long postId) {
+        return postVersions.get(stripe(postId));
+    }
+
+    private static int stripe(Long postId) {
+        return (int) Math.floorMod(postId * 0x9E3779B97F4A7C15L, (long) POST_STRIPES);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+
+    // 조회수처럼 버전에 반영되지 않는 값이 본문에 있는 응답용 (의미상 같은 표현이라는 뜻)
+    private static String weak(String tag) {
+        return "W/" + quote(tag);
+    }
+}
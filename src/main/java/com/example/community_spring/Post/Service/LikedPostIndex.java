@@ -0,0 +1,119 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Event.LikeToggledEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Repository.LikesRepository;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.util.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 게시글 인덱스
+ * 사용자마다 좋아요한 postId를 압축 비트맵(Roaring64Bitmap)으로 들고 있어서
+ * 좋아요 여부 확인을 Likes 테이블 조회 없이 메모리에서 처리한다.
+ * postId는 BIGINT이므로 int 범위를 넘는 ID도 그대로 담을 수 있는 64비트 비트맵을 사용한다.
+ * 비트맵은 처음 조회될 때 적재하고, 캐시 최대 크기(사용자 수)로 힙 사용량을 제한한다.
+ */
+@Component
+public class LikedPostIndex {
+
+    private final LikesRepository likesRepository;
+    private final BoundedCache<Long, Roaring64Bitmap> cache;
+
+    public LikedPostIndex(LikesRepository likesRepository,
+                          CacheProperties cacheProperties,
+                          MeterRegistry meterRegistry) {
+        this.likesRepository = likesRepository;
+        CacheProperties.Spec spec = cacheProperties.getLikedPosts();
+        this.cache = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+        this.cache.bindTo(meterRegistry, "liked-posts");
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지 확인
+     */
+    public boolean isLiked(Long userId, Long postId) {
+        Roaring64Bitmap bitmap = getOrLoad(userId);
+        synchronized (bitmap) {
+            return bitmap.contains(postId);
+        }
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요를 누른 게시글 ID
+     */
+    public Set<Long> likedAmong(Long userId, Collection<Long> postIds) {
+        Roaring64Bitmap bitmap = getOrLoad(userId);
+        Set<Long> liked = new HashSet<>();
+        synchronized (bitmap) {
+            for (Long postId : postIds) {
+                if (bitmap.contains(postId)) {
+                    liked.add(postId);
+                }
+            }
+        }
+        return liked;
+    }
+
+    @TransactionalEventListener
+    public void onLikeToggled(LikeToggledEvent event) {
+        Roaring64Bitmap bitmap = cache.get(event.getUserId());
+        if (bitmap == null) {
+            // 적재 중인 비트맵이 토글 이전 상태로 저장되지 않도록 버전만 올림
+            cache.invalidate(event.getUserId());
+            return;
+        }
+
+        synchronized (bitmap) {
+            if (event.isLiked()) {
+                bitmap.addLong(event.getPostId());
+            } else {
+                bitmap.removeLong(event.getPostId());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        long postId = event.getPostId();
+        cache.forEachValue(bitmap -> {
+            synchronized (bitmap) {
+                bitmap.removeLong(postId);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+
+    private Roaring64Bitmap getOrLoad(Long userId) {
+        Roaring64Bitmap bitmap = cache.get(userId);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        // 적재 도중 토글이 커밋되면 저장하지 않도록 버전을 먼저 확인
+        long stamp = cache.stamp(userId);
+        List<Long> postIds = likesRepository.findPostIdsByUserId(userId);
+
+        bitmap = new Roaring64Bitmap();
+        for (Long postId : postIds) {
+            bitmap.addLong(postId);
+        }
+        bitmap.runOptimize();
+
+        cache.putIfUnchanged(userId, bitmap, stamp);
+        return bitmap;
+    }
+}
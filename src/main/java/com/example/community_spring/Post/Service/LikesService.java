@@ -1,53 +1,105 @@
 package com.example.community_spring.Post.Service;
 
-import com.example.community_spring.Post.Entity.Likes;
+import com.example.community_spring.Post.DTO.response.LikeResponse;
+import com.example.community_spring.Post.DTO.response.LikeToggleState;
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Event.LikeToggledEvent;
 import com.example.community_spring.Post.Repository.LikesRepository;
 import com.example.community_spring.Post.Repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class LikesService {
 
     private final LikesRepository likesRepository;
     private final PostRepository postRepository;
+    private final LikedPostIndex likedPostIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_BULK_STATUS_SIZE = 100; // 좋아요 상태 일괄 조회 최대 게시글 수
 
     /**
      * 좋아요 토글 (이미 좋아요를 누른 경우 취소, 아닌 경우 추가)
+     * 게시글 행을 배타 잠금으로 먼저 읽어 같은 게시글의 토글을 직렬화하고, 잠근 행의 좋아요 수로 응답 값을 계산한다.
+     * 잠금 순서가 항상 Post -> Likes이므로 인기 게시글에 동시 요청이 몰려도 교착 상태가 생기지 않으며,
+     * 문장 수는 상태 조회(잠금), 좋아요 행 삽입/삭제, 카운터 갱신 3개로 고정된다.
      */
     @Transactional
-    public boolean toggleLike(Long postId, Long userId) {
-        // 게시글이 존재하는지 확인
-        postRepository.findById(postId)
+    public LikeResponse toggleLike(Long postId, Long userId) {
+        LikeToggleState state = likesRepository.lockToggleState(postId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        // 이미 좋아요를 눌렀는지 확인
-        boolean alreadyLiked = likesRepository.existsByPostIdAndUserId(postId, userId);
-
-        if (alreadyLiked) {
-            // 좋아요 취소 (메소드명 변경)
-            likesRepository.deleteByPostIdAndUserId(postId, userId); // removeLike -> deleteByPostIdAndUserId
-            postRepository.decrementLikes(postId);
-            return false; // 좋아요 취소됨
+        boolean liked = state.getLikeId() == null;
+        if (liked) {
+            likesRepository.insertIfAbsent(postId, userId);
         } else {
-            // 좋아요 추가 (메소드명 변경)
-            Likes like = new Likes();
-            like.setPostId(postId);
-            like.setUserId(userId);
-            likesRepository.save(like); // addLike -> save
-            postRepository.incrementLikes(postId);
-            return true; // 좋아요 추가됨
+            likesRepository.deleteLike(postId, userId);
         }
+
+        int delta = liked ? 1 : -1;
+        postRepository.addLikes(postId, delta);
+        eventPublisher.publishEvent(new LikeToggledEvent(postId, userId, liked));
+
+        int likes = state.getLikes() != null ? state.getLikes() : 0;
+        return LikeResponse.builder()
+                .postId(postId)
+                .liked(liked)
+                .likeCount(Math.max(likes + delta, 0))
+                .build();
     }
 
     /**
-     * 좋아요 상태 확인
+     * 좋아요 상태 확인 (좋아요 인덱스에서 조회)
+     * 인덱스에 있으면 DB 연결을 쓰지 않도록 트랜잭션 없이 실행한다. (적재 시 조회는 리포지토리 자체 트랜잭션에서 실행)
      */
-    @Transactional(readOnly = true)
     public boolean getLikeStatus(Long postId, Long userId) {
-        return likesRepository.existsByPostIdAndUserId(postId, userId);
+        return likedPostIndex.isLiked(userId, postId);
+    }
+
+    /**
+     * 여러 게시글의 좋아요 상태와 좋아요 수 일괄 조회
+     * 존재하지 않는 게시글 ID는 결과에서 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public List<LikeResponse> getLikeStatuses(List<Long> postIds, Long userId) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(postIds);
+        if (distinctIds.size() > MAX_BULK_STATUS_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_BULK_STATUS_SIZE + "개입니다.");
+        }
+
+        return likesRepository.findLikeStatuses(userId, distinctIds);
+    }
+
+    /**
+     * 게시글 목록 응답에 요청 사용자의 좋아요 여부 표시 (좋아요 인덱스에서 조회, 트랜잭션 없이 실행)
+     */
+    public void markLikedByMe(List<PostResponse> posts, Long userId) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = posts.stream()
+                .map(PostResponse::getPostId)
+                .collect(Collectors.toList());
+        Set<Long> likedPostIds = likedPostIndex.likedAmong(userId, postIds);
+
+        for (PostResponse post : posts) {
+            post.setLikedByMe(likedPostIds.contains(post.getPostId()));
+        }
     }
 
     /**
@@ -55,6 +107,7 @@ public class LikesService {
      */
     @Transactional(readOnly = true)
     public int getLikeCount(Long postId) {
-        return likesRepository.countByPostId(postId);
+        return postRepository.findLikesByPostId(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
     }
 }
\ No newline at end of file
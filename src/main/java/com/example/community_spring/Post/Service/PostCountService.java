@@ -0,0 +1,119 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Repository.PostRepository;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.util.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 수 관리
+ * 목록 조회마다 COUNT(*)를 실행하지 않도록 전체/사용자별 게시글 수를 메모리에 유지한다.
+ * 전체 수는 작성/삭제 시 증감하고 주기적으로 DB와 맞추며,
+ * 사용자별 수는 처음 필요할 때 한 번 세어 두고 이후 해당 사용자의 작성/삭제 시 증감한다.
+ */
+@Slf4j
+@Component
+public class PostCountService {
+
+    private final PostRepository postRepository;
+    private final BoundedCache<Long, AtomicLong> userPostCounts;
+
+    private final AtomicLong totalPosts = new AtomicLong();
+    private volatile boolean totalLoaded = false;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    public PostCountService(PostRepository postRepository,
+                            CacheProperties cacheProperties,
+                            MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        CacheProperties.Spec spec = cacheProperties.getUserPostCount();
+        this.userPostCounts = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+        this.userPostCounts.bindTo(meterRegistry, "user-post-count");
+    }
+
+    /**
+     * 전체 게시글 수
+     */
+    public long getTotalPosts() {
+        if (!totalLoaded) {
+            reconcile();
+        }
+        return totalPosts.get();
+    }
+
+    /**
+     * 사용자별 게시글 수
+     */
+    public long getUserPostCount(Long userId) {
+        AtomicLong count = userPostCounts.get(userId);
+        if (count == null) {
+            long stamp = userPostCounts.stamp(userId);
+            count = new AtomicLong(postRepository.countByUserId(userId));
+            userPostCounts.putIfUnchanged(userId, count, stamp);
+        }
+        return count.get();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        totalPosts.incrementAndGet();
+        addUserPostCount(event.getPost().getUserId(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        totalPosts.decrementAndGet();
+        addUserPostCount(event.getUserId(), -1);
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        userPostCounts.invalidate(event.getUserId());
+    }
+
+    // 사용자별 게시글 수 증감 (아직 세지 않은 사용자면 진행 중인 COUNT 결과가 저장되지 않도록 버전만 올림)
+    private void addUserPostCount(Long userId, long delta) {
+        AtomicLong count = userPostCounts.get(userId);
+        if (count != null) {
+            count.updateAndGet(value -> Math.max(value + delta, 0));
+        } else {
+            userPostCounts.invalidate(userId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * DB 기준으로 전체 게시글 수 재계산
+     */
+    @Scheduled(fixedDelayString = "${post.count.reconcile-interval-ms:600000}",
+            initialDelayString = "${post.count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            long actual = postRepository.count();
+            long previous = totalPosts.getAndSet(actual);
+            if (totalLoaded && previous != actual) {
+                log.info("전체 게시글 수 보정: {} -> {}", previous, actual);
+            }
+            totalLoaded = true;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+}
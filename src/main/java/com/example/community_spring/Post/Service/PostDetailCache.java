@@ -0,0 +1,121 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Event.CommentCreatedEvent;
+import com.example.community_spring.Post.Event.CommentDeletedEvent;
+import com.example.community_spring.Post.Event.LikeToggledEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Event.PostUpdatedEvent;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserProfileChangedEvent;
+import com.example.community_spring.User.Event.UserReactionsPurgedEvent;
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.util.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 상세 응답 캐시
+ * 수정/삭제/좋아요/댓글 작성·삭제/작성자 프로필 변경 시 무효화하고,
+ * 조회수는 캐시된 값에 아직 DB에 반영되지 않은 증가분(ViewCountBuffer)을 더해서 응답한다.
+ * (증가분이 DB에 반영되면 ViewCountBuffer가 해당 항목을 무효화)
+ */
+@Component
+public class PostDetailCache {
+
+    private final BoundedCache<Long, CachedPost> cache;
+
+    public PostDetailCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.getPostDetail();
+        this.cache = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+        this.cache.bindTo(meterRegistry, "post-detail");
+    }
+
+    public CachedPost get(Long postId) {
+        return cache.get(postId);
+    }
+
+    /**
+     * 캐시 버전 조회 (DB 조회 전에 호출)
+     */
+    public long stamp(Long postId) {
+        return cache.stamp(postId);
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었다면 캐시에 저장
+     */
+    public CachedPost putIfUnchanged(PostResponse body, long stamp) {
+        CachedPost cached = new CachedPost(body);
+        cache.putIfUnchanged(body.getPostId(), cached, stamp);
+        return cached;
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        invalidate(event.getPost().getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    // 좋아요 수는 캐시된 값에 더하지 않고 무효화 (커밋 후 리스너 전에 캐시를 채운 조회가 이미 새 값을 읽었을 수 있음)
+    @TransactionalEventListener
+    public void onLikeToggled(LikeToggledEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        cache.invalidateIf(cached -> event.getUserId().equals(cached.getBody().getUserId()));
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        cache.invalidateIf(cached -> event.getUserId().equals(cached.getBody().getUserId()));
+    }
+
+    // 탈퇴 사용자의 좋아요/댓글이 정리된 게시글 무효화
+    @TransactionalEventListener
+    public void onUserReactionsPurged(UserReactionsPurgedEvent event) {
+        event.getRemovedLikes().keySet().forEach(this::invalidate);
+        event.getRemovedComments().keySet().forEach(this::invalidate);
+    }
+
+    /**
+     * 캐시 항목: 변하지 않는 본문 (응답마다 반영 대기 중인 조회수를 더함)
+     */
+    @Getter
+    public static class CachedPost {
+        private final PostResponse body;
+
+        private CachedPost(PostResponse body) {
+            this.body = body;
+        }
+
+        // 캐시된 본문에 반영 대기 중인 조회수를 더한 응답 생성
+        public PostResponse toResponse(long pendingViews) {
+            return body.toBuilder()
+                    .views((body.getViews() != null ? body.getViews() : 0) + (int) pendingViews)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Entity.Post;
+import com.example.community_spring.Post.Repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 상세 캐시 미스 시 DB 조회
+ * 게시글과 작성자 정보를 하나의 읽기 전용 트랜잭션에서 읽어서 서로 다른 시점의 데이터가 섞이지 않게 한다.
+ * (PostService 내부 호출로는 트랜잭션 프록시를 거치지 않으므로 별도 빈으로 분리)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailLoader {
+
+    private final PostRepository postRepository;
+    private final AuthorHydrator authorHydrator;
+
+    @Transactional(readOnly = true)
+    public PostResponse load(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+
+        // 사용자 정보 보강
+        authorHydrator.hydratePost(post);
+
+        return PostResponse.fromEntity(post);
+    }
+}
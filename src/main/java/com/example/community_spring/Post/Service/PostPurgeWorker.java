@@ -0,0 +1,110 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Repository.CommentRepository;
+import com.example.community_spring.Post.Repository.LikesRepository;
+import com.example.community_spring.Post.Repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제 표시된 게시글의 하위 데이터 정리
+ * 좋아요와 댓글을 batchSize개씩 짧은 트랜잭션으로 나눠 삭제하고, 모두 지워지면 게시글 행을 삭제한다.
+ * 정리 대상은 Post 테이블의 deleted_at으로 관리하므로 서버가 재시작되어도 이어서 처리된다.
+ */
+@Slf4j
+@Component
+public class PostPurgeWorker {
+
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter purgedPosts;
+    private final Counter purgedLikes;
+    private final Counter purgedComments;
+    private final AtomicLong pendingPosts = new AtomicLong();
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    @Value("${post.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${post.purge.posts-per-run:20}")
+    private int postsPerRun;
+
+    public PostPurgeWorker(PostRepository postRepository,
+                           LikesRepository likesRepository,
+                           CommentRepository commentRepository,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.likesRepository = likesRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+
+        this.purgedPosts = Counter.builder("post.purge.rows").tag("table", "post").register(meterRegistry);
+        this.purgedLikes = Counter.builder("post.purge.rows").tag("table", "likes").register(meterRegistry);
+        this.purgedComments = Counter.builder("post.purge.rows").tag("table", "comment").register(meterRegistry);
+        Gauge.builder("post.purge.pending", pendingPosts, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 삭제 표시된 게시글 정리
+     */
+    @Scheduled(fixedDelayString = "${post.purge.interval-ms:10000}")
+    public void purge() {
+        purgeLock.lock();
+        try {
+            List<Long> postIds = postRepository.findDeletedPostIds(postsPerRun);
+            for (Long postId : postIds) {
+                try {
+                    purgePost(postId);
+                } catch (RuntimeException e) {
+                    // 실패한 게시글은 deleted_at이 남아 있으므로 다음 주기에 다시 시도
+                    log.error("게시글 정리 중 오류 발생: 게시글 ID {}", postId, e);
+                }
+            }
+            pendingPosts.set(postRepository.countDeletedPosts());
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    private void purgePost(Long postId) {
+        long likes = deleteInBatches(() -> likesRepository.deleteBatchByPostId(postId, batchSize));
+        purgedLikes.increment(likes);
+
+        long comments = deleteInBatches(() -> commentRepository.deleteBatchByPostId(postId, batchSize));
+        purgedComments.increment(comments);
+
+        Integer posts = transactionTemplate.execute(status -> postRepository.purgeDeletedPost(postId));
+        if (posts != null && posts > 0) {
+            purgedPosts.increment(posts);
+        }
+
+        log.info("게시글 정리 완료: 게시글 ID {}, 좋아요 {}건, 댓글 {}건", postId, likes, comments);
+    }
+
+    // 삭제된 행이 batchSize보다 적을 때까지 배치 단위 트랜잭션으로 반복 삭제
+    private long deleteInBatches(IntSupplier deleteBatch) {
+        long total = 0;
+        int deleted;
+        do {
+            Integer result = transactionTemplate.execute(status -> deleteBatch.getAsInt());
+            deleted = result != null ? result : 0;
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
+    }
+}
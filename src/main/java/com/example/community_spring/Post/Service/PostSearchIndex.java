@@ -0,0 +1,189 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Entity.Post;
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Event.PostUpdatedEvent;
+import com.example.community_spring.Post.Repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 제목/내용 인메모리 역색인
+ * 토큰별로 (postId -> 가중 빈도) 목록을 유지해서 LIKE '%q%' 전체 스캔 없이 검색한다.
+ * 한글은 띄어쓰기/조사와 상관없이 찾을 수 있도록 2글자 단위(bigram)로 나누고,
+ * 그 외 문자는 단어 단위로 색인한다. 시작 시 전체를 적재하고 작성/수정/삭제 이벤트로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000; // 시작 시 한 번에 읽을 게시글 수
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 토큰 가중치
+    private static final int MAX_RESULTS = 1000; // 검색 결과 최대 개수
+
+    private final PostRepository postRepository;
+
+    // 토큰 -> (postId -> 가중 빈도)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    // postId -> 색인된 토큰 (수정/삭제 시 기존 항목 제거용)
+    private final ConcurrentHashMap<Long, List<String>> termsByPost = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long lastPostId = 0L;
+        List<Post> chunk;
+        do {
+            chunk = postRepository.findByPostIdGreaterThanOrderByPostIdAsc(lastPostId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Post post : chunk) {
+                index(post);
+            }
+            if (!chunk.isEmpty()) {
+                lastPostId = chunk.get(chunk.size() - 1).getPostId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+        log.info("게시글 검색 색인 완료: 게시글 {}건, 토큰 {}개", termsByPost.size(), postings.size());
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순으로 게시글 ID 조회
+     * 점수는 토큰별 (가중 빈도 x 희소도) 합이며, 같은 점수면 최신 게시글이 먼저 온다.
+     */
+    public List<Long> search(String query) {
+        Map<String, Integer> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int totalDocs = Math.max(termsByPost.size(), 1);
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : queryTerms.keySet()) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList == null || postingList.isEmpty()) {
+                continue;
+            }
+
+            double idf = Math.log(1.0 + (double) totalDocs / postingList.size());
+            postingList.forEach((postId, frequency) -> scores.merge(postId, frequency * idf, Double::sum));
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+
+        List<Long> postIds = new ArrayList<>(Math.min(ranked.size(), MAX_RESULTS));
+        for (int i = 0; i < ranked.size() && i < MAX_RESULTS; i++) {
+            postIds.add(ranked.get(i).getKey());
+        }
+        return postIds;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        index(event.getPost());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        index(event.getPost());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        remove(event.getPostId());
+    }
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    public synchronized void index(Post post) {
+        remove(post.getPostId());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(post.getTitle()).forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        tokenize(post.getContent()).forEach((term, count) -> frequencies.merge(term, count, Integer::sum));
+
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(post.getPostId(), frequency));
+        termsByPost.put(post.getPostId(), new ArrayList<>(frequencies.keySet()));
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public synchronized void remove(Long postId) {
+        List<String> terms = termsByPost.remove(postId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, postingList) -> {
+                postingList.remove(postId);
+                return postingList.isEmpty() ? null : postingList;
+            });
+        }
+    }
+
+    /**
+     * 텍스트를 토큰별 등장 횟수로 변환
+     * 한글 연속 구간은 2글자씩 겹치게 나누고(한 글자면 그대로), 나머지는 소문자 단어 단위로 사용한다.
+     */
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        boolean hangulWord = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char ch = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean hangul = isHangul(ch);
+            boolean wordChar = hangul || Character.isLetterOrDigit(ch);
+
+            // 한글과 다른 문자가 붙어 있으면 별도 토큰으로 분리
+            if (word.length() > 0 && (!wordChar || hangul != hangulWord)) {
+                addWord(terms, word.toString(), hangulWord);
+                word.setLength(0);
+            }
+            if (wordChar) {
+                word.append(ch);
+                hangulWord = hangul;
+            }
+        }
+        return terms;
+    }
+
+    private static void addWord(Map<String, Integer> terms, String word, boolean hangul) {
+        if (!hangul || word.length() == 1) {
+            terms.merge(word, 1, Integer::sum);
+            return;
+        }
+
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            terms.merge(word.substring(i, i + 2), 1, Integer::sum);
+        }
+    }
+
+    private static boolean isHangul(char ch) {
+        return Character.UnicodeScript.of(ch) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -5,21 +5,27 @@ import com.example.community_spring.Post.DTO.request.UpdatePostRequest;
 import com.example.community_spring.Post.DTO.response.PostListResponse;
 import com.example.community_spring.Post.DTO.response.PostResponse;
 import com.example.community_spring.Post.Entity.Post;
-import com.example.community_spring.Post.Repository.CommentRepository;
-import com.example.community_spring.Post.Repository.LikesRepository;
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Event.PostUpdatedEvent;
+import com.example.community_spring.Post.Event.PostViewedEvent;
 import com.example.community_spring.Post.Repository.PostRepository;
 import com.example.community_spring.User.Entity.User;
 import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,89 +34,188 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final LikesRepository likesRepository;
-    private final CommentRepository commentRepository;
+    private final AuthorHydrator authorHydrator;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailLoader postDetailLoader;
+    private final PostCountService postCountService;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int PAGE_SIZE = 10; // 페이지당 게시글 수
 
     /**
      * 게시글 목록 조회 (페이지네이션)
+     * 전체 게시글 수는 PostCountService에서 가져오므로 COUNT 쿼리를 실행하지 않는다.
      */
     @Transactional(readOnly = true)
     public PostListResponse getPosts(int page) {
         int pageIndex = page - 1; // 페이지 인덱스는 0부터 시작
-        Pageable pageable = PageRequest.of(pageIndex, PAGE_SIZE, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(pageIndex, PAGE_SIZE);
 
-        // JPA 페이징 적용
-        Page<Post> postsPage = postRepository.findAll(pageable);
-        List<Post> posts = postsPage.getContent();
+        List<Post> posts = postRepository.findAllByOrderByCreatedAtDescPostIdDesc(pageable);
 
-        // Entity -> DTO 변환
+        return toPagedResponse(posts, page, postCountService.getTotalPosts());
+    }
+
+    /**
+     * 게시글 목록 조회 (커서 기반 키셋 페이지네이션)
+     * OFFSET 스캔과 COUNT 쿼리 없이 (createdAt, postId) 이후의 게시글만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByCursor(String cursor) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+
+        List<Post> posts;
+        if (StringUtils.hasText(cursor)) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            posts = postRepository.findPostsBeforeCursor(position.getAt(), position.getId(), limit);
+        } else {
+            posts = postRepository.findAllByOrderByCreatedAtDescPostIdDesc(limit);
+        }
+
+        boolean hasNext = posts.size() > PAGE_SIZE;
+        if (hasNext) {
+            posts = posts.subList(0, PAGE_SIZE);
+        }
+
+        // 작성자 정보 일괄 보강 후 Entity -> DTO 변환
+        authorHydrator.hydratePosts(posts);
         List<PostResponse> postResponses = posts.stream()
-                .map(this::enrichPostWithUserInfo) // 사용자 정보 보강
                 .map(PostResponse::fromEntity)
                 .collect(Collectors.toList());
 
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getPostId());
+        }
+
+        long totalPosts = postCountService.getTotalPosts();
         return PostListResponse.builder()
                 .posts(postResponses)
-                .currentPage(page)
-                .totalPages(postsPage.getTotalPages())
-                .totalPosts((int) postsPage.getTotalElements())
-                .hasNext(postsPage.hasNext())
-                .hasPrevious(postsPage.hasPrevious())
+                .totalPages(totalPages(totalPosts))
+                .totalPosts((int) totalPosts)
+                .hasNext(hasNext)
+                .hasPrevious(StringUtils.hasText(cursor))
+                .nextCursor(nextCursor)
                 .build();
     }
 
     /**
      * 특정 사용자의 게시글 목록 조회 (페이지네이션)
+     * 목록에 필요한 컬럼만 조회하고, 게시글 수는 PostCountService에서 유지하는 값을 사용한다.
      */
     @Transactional(readOnly = true)
     public PostListResponse getPostsByUserId(Long userId, int page) {
         int pageIndex = page - 1;
-        Pageable pageable = PageRequest.of(pageIndex, PAGE_SIZE, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(pageIndex, PAGE_SIZE);
 
-        // JPA 페이징 적용
-        Page<Post> postsPage = postRepository.findByUserId(userId, pageable);
-        List<Post> posts = postsPage.getContent();
-
-        // Entity -> DTO 변환
-        List<PostResponse> postResponses = posts.stream()
-                .map(this::enrichPostWithUserInfo)
-                .map(PostResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<PostResponse> posts = postRepository.findUserPostSummaries(userId, pageable);
+        authorHydrator.hydratePostResponses(posts);
 
+        long totalPosts = postCountService.getUserPostCount(userId);
+        int totalPages = totalPages(totalPosts);
         return PostListResponse.builder()
-                .posts(postResponses)
+                .posts(posts)
                 .currentPage(page)
-                .totalPages(postsPage.getTotalPages())
-                .totalPosts((int) postsPage.getTotalElements())
-                .hasNext(postsPage.hasNext())
-                .hasPrevious(postsPage.hasPrevious())
+                .totalPages(totalPages)
+                .totalPosts((int) totalPosts)
+                .hasNext(page < totalPages)
+                .hasPrevious(page > 1)
                 .build();
     }
 
+    /**
+     * 특정 사용자의 게시글 목록 조회 (커서 기반 키셋 페이지네이션)
+     * (userId, createdAt, postId) 인덱스를 따라 커서 이후 게시글만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByUserIdCursor(Long userId, String cursor) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+
+        List<PostResponse> posts;
+        if (StringUtils.hasText(cursor)) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            posts = postRepository.findUserPostSummariesBeforeCursor(userId, position.getAt(), position.getId(), limit);
+        } else {
+            posts = postRepository.findUserPostSummaries(userId, limit);
+        }
+
+        boolean hasNext = posts.size() > PAGE_SIZE;
+        if (hasNext) {
+            posts = posts.subList(0, PAGE_SIZE);
+        }
+        authorHydrator.hydratePostResponses(posts);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostResponse last = posts.get(posts.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getPostId());
+        }
+
+        long totalPosts = postCountService.getUserPostCount(userId);
+        return PostListResponse.builder()
+                .posts(posts)
+                .totalPages(totalPages(totalPosts))
+                .totalPosts((int) totalPosts)
+                .hasNext(hasNext)
+                .hasPrevious(StringUtils.hasText(cursor))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 게시글 검색 (관련도순 페이지네이션)
+     * 검색 색인에서 순위가 매겨진 게시글 ID를 받아 해당 페이지의 게시글만 DB에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse searchPosts(String query, int page) {
+        List<Long> rankedIds = postSearchIndex.search(query);
+
+        int from = Math.min((page - 1) * PAGE_SIZE, rankedIds.size());
+        int to = Math.min(from + PAGE_SIZE, rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        // 색인 순위대로 정렬 (삭제 표시된 게시글은 조회되지 않으므로 제외됨)
+        Map<Long, Post> postsById = postRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        List<Post> posts = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return toPagedResponse(posts, page, rankedIds.size());
+    }
+
     /**
      * 게시글 상세 조회
+     * 상세 캐시를 먼저 확인하고, 없을 때만 읽기 전용 트랜잭션에서 게시글과 작성자 정보를 읽어 캐시에 채운다.
+     * 조회수는 버퍼에 누적해 두고, 응답에는 아직 반영되지 않은 증가분을 더해서 돌려준다.
      */
-    @Transactional
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        PostDetailCache.CachedPost cached = postDetailCache.get(postId);
+        if (cached == null) {
+            // 조회 도중 무효화된 결과가 캐시에 들어가지 않도록 버전을 먼저 확인
+            long stamp = postDetailCache.stamp(postId);
 
-        // 조회수 증가
-        postRepository.incrementViews(postId);
+            cached = postDetailCache.putIfUnchanged(postDetailLoader.load(postId), stamp);
+        }
 
-        // 최신 데이터로 다시 조회
-        post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        // 조회수 증가 (쓰기 지연)
+        recordView(postId);
 
-        // 사용자 정보 보강 - 명시적으로 로그 출력
-        post = enrichPostWithUserInfo(post);
-        System.out.println("게시글 조회 결과: postId=" + post.getPostId() +
-                ", authorNickname=" + post.getAuthorNickname() +
-                ", authorProfileImage=" + post.getAuthorProfileImage());
+        return cached.toResponse(viewCountBuffer.getPending(postId));
+    }
 
-        return PostResponse.fromEntity(post);
+    /**
+     * 조회수만 증가 (본문 없이 304로 응답한 상세 조회도 조회수에 포함)
+     */
+    public void recordView(Long postId) {
+        viewCountBuffer.increment(postId);
+        eventPublisher.publishEvent(new PostViewedEvent(postId));
     }
 
     /**
@@ -131,10 +236,12 @@ public class PostService {
                 .createdAt(LocalDateTime.now())
                 .likes(0)
                 .views(0)
+                .commentCount(0)
                 .build();
 
         // 게시글 저장
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost));
 
         // 저장된 게시글에 사용자 정보 보강
         savedPost.setAuthorNickname(user.getNickname());
@@ -165,13 +272,17 @@ public class PostService {
         Post updatedPost = postRepository.save(post);
 
         // 업데이트된 게시글에 사용자 정보 보강
-        updatedPost = enrichPostWithUserInfo(updatedPost);
+        updatedPost = authorHydrator.hydratePost(updatedPost);
+
+        // 상세 캐시 무효화 (커밋 후 처리)
+        eventPublisher.publishEvent(new PostUpdatedEvent(updatedPost));
 
         return PostResponse.fromEntity(updatedPost);
     }
 
     /**
      * 게시글 삭제
+     * 게시글은 즉시 조회 대상에서 빠지고, 좋아요와 댓글은 백그라운드에서 나눠서 삭제된다.
      */
     @Transactional
     public void deletePost(Long userId, Long postId) {
@@ -184,34 +295,38 @@ public class PostService {
             throw new IllegalArgumentException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        // 관련 좋아요 데이터 먼저 삭제
-        likesRepository.deleteAllByPostId(postId);
-
-        // 관련 댓글 데이터 삭제
-        commentRepository.deleteAllByPostId(postId);
+        // 삭제 표시만 하고 좋아요/댓글 정리는 PostPurgeWorker에 맡김
+        // 동시에 들어온 삭제 요청 중 실제로 표시한 한 건만 이벤트를 발행해서 게시글 수가 두 번 줄지 않도록 함
+        if (postRepository.markDeleted(postId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
 
-        // 마지막으로 게시글 삭제
-        postRepository.deleteById(postId);
+        // 상세 캐시 무효화, 게시글 수 감소 (커밋 후 처리)
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, userId));
     }
 
     /**
-     * 게시글에 사용자 정보 채우기
+     * 페이지 번호 기반 목록 응답 생성
      */
-    private Post enrichPostWithUserInfo(Post post) {
-        User user = userRepository.findById(post.getUserId()).orElse(null);
-
-        if (user != null) {
-            post.setAuthorNickname(user.getNickname());
-            post.setAuthorEmail(user.getEmail());
-            post.setAuthorProfileImage(user.getProfileImage());
+    private PostListResponse toPagedResponse(List<Post> posts, int page, long totalPosts) {
+        // 작성자 정보 일괄 보강 후 Entity -> DTO 변환
+        authorHydrator.hydratePosts(posts);
+        List<PostResponse> postResponses = posts.stream()
+                .map(PostResponse::fromEntity)
+                .collect(Collectors.toList());
 
-            // 디버깅 로그 추가
-            System.out.println("사용자 정보 보강: userId=" + user.getUserId() +
-                    ", profileImage=" + user.getProfileImage());
-        } else {
-            System.out.println("사용자를 찾을 수 없음: userId=" + post.getUserId());
-        }
+        int totalPages = totalPages(totalPosts);
+        return PostListResponse.builder()
+                .posts(postResponses)
+                .currentPage(page)
+                .totalPages(totalPages)
+                .totalPosts((int) totalPosts)
+                .hasNext(page < totalPages)
+                .hasPrevious(page > 1)
+                .build();
+    }
 
-        return post;
+    private int totalPages(long totalPosts) {
+        return (int) ((totalPosts + PAGE_SIZE - 1) / PAGE_SIZE);
     }
 }
\ No newline at end of file
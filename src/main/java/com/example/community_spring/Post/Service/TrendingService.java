@@ -0,0 +1,340 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Entity.Post;
+import com.example.community_spring.Post.Event.CommentCreatedEvent;
+import com.example.community_spring.Post.Event.CommentDeletedEvent;
+import com.example.community_spring.Post.Event.LikeToggledEvent;
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Event.PostUpdatedEvent;
+import com.example.community_spring.Post.Event.PostViewedEvent;
+import com.example.community_spring.Post.Repository.PostRepository;
+import com.example.community_spring.User.DTO.response.AuthorSummary;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserReactionsPurgedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 집계
+ * 최근 게시글마다 시간이 지날수록 반감되는 점수를 메모리에 유지하고,
+ * 주기적으로 상위 K개를 뽑아 응답 목록을 만들어 두어서 조회 요청은 DB를 거치지 않는다.
+ *
+ * 점수는 기준 시각(baseTime) 대비 2^((t - baseTime) / 반감기)를 곱해 더하는 방식으로 저장하므로
+ * 모든 게시글의 점수를 매번 감쇠시킬 필요가 없고, 갱신 주기마다 기준 시각을 현재로 옮겨 값이 커지는 것을 막는다.
+ */
+@Slf4j
+@Component
+public class TrendingService {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+
+    private final PostRepository postRepository;
+    private final AuthorHydrator authorHydrator;
+
+    private final Duration halfLife;
+    private final Duration window;
+    private final int topK;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<Long, TrendingPost> posts = new ConcurrentHashMap<>();
+    // 점수 추가는 읽기 잠금, 기준 시각 이동은 쓰기 잠금
+    private final ReadWriteLock baseLock = new ReentrantReadWriteLock();
+    private volatile long baseTime;
+    // 목록 갱신 중복 실행 방지
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile List<PostResponse> topPosts = Collections.emptyList();
+
+    @Autowired
+    public TrendingService(PostRepository postRepository,
+                           AuthorHydrator authorHydrator,
+                           @Value("${trending.half-life:6h}") Duration halfLife,
+                           @Value("${trending.window:3d}") Duration window,
+                           @Value("${trending.top-k:50}") int topK) {
+        this(postRepository, authorHydrator, halfLife, window, topK, Clock.systemDefaultZone());
+    }
+
+    // 테스트에서 시각을 직접 지정할 때 사용
+    TrendingService(PostRepository postRepository,
+                    AuthorHydrator authorHydrator,
+                    Duration halfLife,
+                    Duration window,
+                    int topK,
+                    Clock clock) {
+        this.postRepository = postRepository;
+        this.authorHydrator = authorHydrator;
+        this.halfLife = halfLife;
+        this.window = window;
+        this.topK = topK;
+        this.clock = clock;
+        this.baseTime = clock.millis();
+    }
+
+    /**
+     * 인기 게시글 목록 (최대 limit개)
+     */
+    public List<PostResponse> getTrending(int limit) {
+        List<PostResponse> snapshot = topPosts;
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 시작 시 집계 기간 내 게시글을 기존 조회수/좋아요/댓글 수와 작성 시각 기준 점수로 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        LocalDateTime since = LocalDateTime.now(clock).minus(window);
+        List<Post> recentPosts = postRepository.findByCreatedAtAfter(since);
+
+        for (Post post : recentPosts) {
+            TrendingPost trendingPost = track(post);
+            double initial = VIEW_WEIGHT * valueOf(post.getViews())
+                    + LIKE_WEIGHT * valueOf(post.getLikes())
+                    + COMMENT_WEIGHT * valueOf(post.getCommentCount());
+            addScore(trendingPost, initial, toEpochMillis(post.getCreatedAt()));
+        }
+
+        refresh();
+        log.info("인기 게시글 집계 적재 완료: 게시글 {}건", recentPosts.size());
+    }
+
+    /**
+     * 기준 시각 이동, 집계 기간이 지난 게시글 제거, 상위 K개 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:10000}",
+            initialDelayString = "${trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            rebase();
+
+            long cutoff = clock.millis() - window.toMillis();
+            posts.values().removeIf(trendingPost -> trendingPost.createdAtMillis < cutoff);
+
+            // 크기 K의 최소 힙으로 상위 K개 선택 (비교 중 점수가 바뀌지 않도록 현재 점수를 고정해서 사용)
+            PriorityQueue<Map.Entry<TrendingPost, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (TrendingPost trendingPost : posts.values()) {
+                heap.offer(Map.entry(trendingPost, trendingPost.score()));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }
+
+            List<TrendingPost> ranked = heap.stream()
+                    .sorted(Map.Entry.<TrendingPost, Double>comparingByValue().reversed())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+            // 작성자 정보는 갱신 시점에만 보강 (대부분 작성자 캐시에서 처리)
+            Map<Long, AuthorSummary> authors = authorHydrator.loadAuthors(ranked.stream()
+                    .map(trendingPost -> trendingPost.body.getUserId())
+                    .collect(Collectors.toSet()));
+
+            topPosts = ranked.stream()
+                    .map(trendingPost -> trendingPost.toResponse(authors.get(trendingPost.body.getUserId())))
+                    .collect(Collectors.toList());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        TrendingPost trendingPost = posts.get(event.getPostId());
+        if (trendingPost != null) {
+            trendingPost.views.incrementAndGet();
+            addScore(trendingPost, VIEW_WEIGHT, clock.millis());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikeToggled(LikeToggledEvent event) {
+        TrendingPost trendingPost = posts.get(event.getPostId());
+        if (trendingPost != null) {
+            trendingPost.likes.addAndGet(event.isLiked() ? 1 : -1);
+            addScore(trendingPost, event.isLiked() ? LIKE_WEIGHT : -LIKE_WEIGHT, clock.millis());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        TrendingPost trendingPost = posts.get(event.getPostId());
+        if (trendingPost != null) {
+            trendingPost.comments.incrementAndGet();
+            addScore(trendingPost, COMMENT_WEIGHT, clock.millis());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        TrendingPost trendingPost = posts.get(event.getPostId());
+        if (trendingPost != null) {
+            trendingPost.comments.updateAndGet(count -> Math.max(count - 1, 0));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        track(event.getPost());
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        TrendingPost trendingPost = posts.get(event.getPost().getPostId());
+        if (trendingPost != null) {
+            trendingPost.setBody(PostResponse.fromEntity(event.getPost()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        posts.remove(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        posts.values().removeIf(trendingPost -> event.getUserId().equals(trendingPost.body.getUserId()));
+    }
+
+    // 탈퇴 사용자의 좋아요/댓글 정리분을 좋아요 취소/댓글 삭제와 같은 방식으로 반영
+    @TransactionalEventListener
+    public void onUserReactionsPurged(UserReactionsPurgedEvent event) {
+        long now = clock.millis();
+        event.getRemovedLikes().forEach((postId, count) -> {
+            TrendingPost trendingPost = posts.get(postId);
+            if (trendingPost != null) {
+                trendingPost.likes.addAndGet(-count);
+                addScore(trendingPost, -LIKE_WEIGHT * count, now);
+            }
+        });
+        event.getRemovedComments().forEach((postId, count) -> {
+            TrendingPost trendingPost = posts.get(postId);
+            if (trendingPost != null) {
+                trendingPost.comments.updateAndGet(comments -> Math.max(comments - count, 0));
+            }
+        });
+    }
+
+    private TrendingPost track(Post post) {
+        return posts.computeIfAbsent(post.getPostId(),
+                postId -> new TrendingPost(PostResponse.fromEntity(post), toEpochMillis(post.getCreatedAt())));
+    }
+
+    // 발생 시각 기준으로 감쇠를 반영한 점수 추가
+    private void addScore(TrendingPost trendingPost, double weight, long eventTimeMillis) {
+        baseLock.readLock().lock();
+        try {
+            trendingPost.add(weight * decayFactor(eventTimeMillis - baseTime));
+        } finally {
+            baseLock.readLock().unlock();
+        }
+    }
+
+    // 기준 시각을 현재로 옮기고 모든 점수를 그만큼 감쇠
+    private void rebase() {
+        baseLock.writeLock().lock();
+        try {
+            long now = clock.millis();
+            double factor = decayFactor(baseTime - now);
+            for (TrendingPost trendingPost : posts.values()) {
+                trendingPost.scale(factor);
+            }
+            baseTime = now;
+        } finally {
+            baseLock.writeLock().unlock();
+        }
+    }
+
+    private double decayFactor(long elapsedMillis) {
+        return Math.pow(2.0, (double) elapsedMillis / halfLife.toMillis());
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        if (time == null) {
+            return clock.millis();
+        }
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 집계 중인 게시글: 응답 본문 + 실시간 카운터 + 점수
+     */
+    private static class TrendingPost {
+        private final long createdAtMillis;
+        private final AtomicInteger views;
+        private final AtomicInteger likes;
+        private final AtomicInteger comments;
+        private volatile PostResponse body;
+        private double score;
+
+        private TrendingPost(PostResponse body, long createdAtMillis) {
+            this.body = body;
+            this.createdAtMillis = createdAtMillis;
+            this.views = new AtomicInteger(valueOf(body.getViews()));
+            this.likes = new AtomicInteger(valueOf(body.getLikes()));
+            this.comments = new AtomicInteger(valueOf(body.getCommentCount()));
+        }
+
+        private synchronized void add(double delta) {
+            score += delta;
+        }
+
+        private synchronized void scale(double factor) {
+            score *= factor;
+        }
+
+        private synchronized double score() {
+            return score;
+        }
+
+        // 수정된 본문으로 교체 (카운터와 점수는 유지)
+        private void setBody(PostResponse body) {
+            this.body = body;
+        }
+
+        private PostResponse toResponse(AuthorSummary author) {
+            PostResponse.PostResponseBuilder builder = body.toBuilder()
+                    .views(views.get())
+                    .likes(Math.max(likes.get(), 0))
+                    .commentCount(comments.get());
+            if (author != null) {
+                builder.authorNickname(author.getNickname())
+                        .authorEmail(author.getEmail())
+                        .authorProfileImage(author.getProfileImage());
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.Repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * 상세 조회마다 UPDATE를 실행하지 않고 게시글별 증가분을 메모리에 모아 두었다가
+ * 주기적으로(그리고 종료 시) 같은 증가분끼리 묶어 일괄 UPDATE로 반영한다.
+ *
+ * 반영 중인 증가분은 UPDATE가 커밋될 때까지 flushing에 남겨 응답에 계속 더하고,
+ * 커밋 후에 상세 캐시 항목을 무효화한 다음 뺀다. 반영 도중 캐시를 채운 조회는 커밋 전 값을 읽었을 수 있으므로
+ * 캐시된 조회수에 증가분을 더하지 않고 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500; // UPDATE 한 번에 묶을 게시글 수
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+
+    // postId -> 아직 DB에 반영되지 않은 조회수 (키 단위 잠금으로 경합 분산)
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // postId -> 반영 중(UPDATE 커밋 전)인 조회수 (flush에서만 변경)
+    private final ConcurrentHashMap<Long, Long> flushing = new ConcurrentHashMap<>();
+
+    // flush 동시 실행 방지 (DB 작업 중 가상 스레드가 carrier 스레드에 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 조회수 1 증가
+     */
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 반영되지 않은 조회수 (반영 중인 증가분 포함)
+     */
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L) + flushing.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            // 게시글별 누적분을 반영 중으로 옮기고 같은 증가량끼리 묶기
+            Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+            for (Long postId : pending.keySet()) {
+                Long delta = pending.remove(postId);
+                if (delta != null && delta > 0) {
+                    flushing.put(postId, delta);
+                    postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId);
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        postIdsByDelta.forEach((delta, postIds) -> {
+                            for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+                                List<Long> chunk = postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()));
+                                postRepository.addViews(chunk, delta.intValue());
+                            }
+                        }));
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 시도하도록 되돌려 놓기
+                log.error("조회수 반영 중 오류 발생, 다음 주기에 재시도합니다.", e);
+                postIdsByDelta.forEach((delta, postIds) -> postIds.forEach(postId -> {
+                    pending.merge(postId, delta, Long::sum);
+                    flushing.remove(postId);
+                }));
+                return;
+            }
+
+            // 커밋된 뒤에 캐시 무효화(진행 중인 캐시 채우기도 버림) 후 반영 중 목록에서 제거
+            postIdsByDelta.values().forEach(postIds -> postIds.forEach(postId -> {
+                postDetailCache.invalidate(postId);
+                flushing.remove(postId);
+            }));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -3,9 +3,11 @@ package com.example.community_spring.User.Controller;
 import com.example.community_spring.User.DTO.request.*;
 import com.example.community_spring.User.DTO.response.*;
 import com.example.community_spring.User.Service.UserService;
-import com.example.community_spring.util.JwtTokenProvider;
+import com.example.community_spring.auth.LoginUser;
+import com.example.community_spring.exception.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -20,22 +22,14 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 현재 사용자 프로필 조회 API
      * GET /api/users/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<?>> getProfile(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse<?>> getProfile(@LoginUser Long userId) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("프로필 조회 요청: 사용자 ID {}", userId);
 
             UserResponse user = userService.getUserById(userId);
@@ -54,10 +48,7 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<?>> getCurrentUser(@RequestHeader("Authorization") String authHeader) {
-        // 토큰에서 사용자 ID 추출
-        Long userId = extractUserIdFromToken(authHeader);
-
+    public ResponseEntity<ApiResponse<?>> getCurrentUser(@LoginUser Long userId) {
         // 사용자 정보 조회
         UserResponse user = userService.getUserById(userId);
 
@@ -75,22 +66,15 @@ public class UserController {
      */
     @PutMapping("/profile")
     public ResponseEntity<ApiResponse<?>> updateProfile(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @RequestBody UpdateProfileRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
             // 닉네임 검증
             if (StringUtils.hasText(request.getNickname()) &&
                     (request.getNickname().length() < 2 || request.getNickname().length() > 50)) {
                 return getBadRequestResponse("닉네임은 2자 이상 50자 이하여야 합니다.");
             }
 
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("프로필 업데이트 요청: 사용자 ID {}, 새로운 닉네임 : {}", userId, request.getNickname());
 
             UserResponse updatedUser = userService.updateProfile(userId, request);
@@ -114,14 +98,9 @@ public class UserController {
      */
     @PutMapping("/password")
     public ResponseEntity<ApiResponse<?>> updatePassword(
-            @RequestHeader("Authorization") String authHeader,
+            @LoginUser Long userId,
             @RequestBody UpdatePasswordRequest request) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
             // 비밀번호 검증
             if (!StringUtils.hasText(request.getPassword())) {
                 return getBadRequestResponse("비밀번호는 필수입니다.");
@@ -130,8 +109,6 @@ public class UserController {
                 return getBadRequestResponse("비밀번호는 8자 이상, 20자 이하여야 합니다.");
             }
 
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("비밀번호 변경 요청: 사용자 ID {}", userId);
 
             userService.updatePassword(userId, request);
@@ -143,6 +120,9 @@ public class UserController {
         } catch (IllegalArgumentException e) {
             log.warn("비밀번호 변경 실패: {}", e.getMessage());
             return getBadRequestResponse(e.getMessage());
+        } catch (ServiceBusyException e) {
+            log.warn("비밀번호 변경 거부 (비밀번호 해시 실행기 포화): 사용자 ID {}", userId);
+            return getServiceBusyResponse(e.getMessage());
         } catch (Exception e) {
             log.error("비밀번호 변경 중 오류 발생", e);
             return getServerErrorResponse();
@@ -154,15 +134,8 @@ public class UserController {
      * DELETE /api/users
      */
     @DeleteMapping
-    public ResponseEntity<ApiResponse<?>> deleteUser(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse<?>> deleteUser(@LoginUser Long userId) {
         try {
-            // 토큰 검증
-            if (!StringUtils.hasText(authHeader)) {
-                return getUnauthorizedResponse("인증 토큰이 필요합니다.");
-            }
-
-            // 토큰에서 사용자 ID 추출
-            Long userId = extractUserIdFromToken(authHeader);
             log.info("회원 탈퇴 요청: 사용자 ID {}", userId);
 
             userService.deleteUser(userId);
@@ -200,27 +173,6 @@ public class UserController {
         }
     }
 
-    /**
-     * 토큰에서 사용자 ID 추출
-     */
-    private Long extractUserIdFromToken(String authHeader) {
-        // 토큰 형식 검증
-        if (!StringUtils.hasText(authHeader) || !authHeader.startsWith("Bearer ")) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        // 헤더에서 Bearer 제거 후 토큰 문자열 가져오기
-        String jwt = authHeader.substring(7);
-
-        // JWT 토큰 검증
-        if (!jwtTokenProvider.validateToken(jwt)) {
-            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-        }
-
-        // JWT 토큰에서 사용자 ID 추출
-        return jwtTokenProvider.getUserIdFromToken(jwt);
-    }
-
     /**
      * Bad Request 응답 생성
      */
@@ -245,6 +197,19 @@ public class UserController {
                         .build());
     }
 
+    /**
+     * Service Unavailable 응답 생성
+     */
+    private ResponseEntity<ApiResponse<?>> getServiceBusyResponse(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.builder()
+                        .success(false)
+                        .message(message)
+                        .data(null)
+                        .build());
+    }
+
     /**
      * Server Error 응답 생성
      */
@@ -0,0 +1,20 @@
+package com.example.community_spring.User.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글/댓글 작성자 표시용 요약 정보 (비밀번호 등 불필요한 컬럼 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummary {
+    private Long userId;
+    private String nickname;
+    private String email;
+    private String profileImage;
+}
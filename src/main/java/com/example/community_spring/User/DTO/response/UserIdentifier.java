@@ -0,0 +1,17 @@
+package com.example.community_spring.User.DTO.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 중복 확인 필터 적재용 사용자 식별 정보 (이메일, 닉네임)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentifier {
+    private Long userId;
+    private String email;
+    private String nickname;
+}
@@ -0,0 +1,28 @@
+package com.example.community_spring.User.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 사용자의 게시글/댓글/좋아요 정리 작업
+ * 정리가 끝나면 행이 삭제되므로, 남아 있는 행이 곧 정리 대기 목록이다.
+ */
+@Entity
+@Table(name = "UserPurgeTask")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPurgeTask {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+}
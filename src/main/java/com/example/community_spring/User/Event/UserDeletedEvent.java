@@ -0,0 +1,13 @@
+package com.example.community_spring.User.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 탈퇴 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,14 @@
+package com.example.community_spring.User.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 프로필(닉네임, 프로필 이미지) 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+    private final Long userId;
+    private final String nickname;
+}
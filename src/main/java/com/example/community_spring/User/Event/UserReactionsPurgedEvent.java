@@ -0,0 +1,18 @@
+package com.example.community_spring.User.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 탈퇴 사용자의 좋아요/댓글 정리 이벤트 (정리 배치 단위)
+ * 게시글 ID별로 삭제된 좋아요 수와 댓글 수를 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserReactionsPurgedEvent {
+    private final Long userId;
+    private final Map<Long, Integer> removedLikes;
+    private final Map<Long, Integer> removedComments;
+}
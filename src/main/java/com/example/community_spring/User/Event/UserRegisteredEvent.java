@@ -0,0 +1,15 @@
+package com.example.community_spring.User.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원가입 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class UserRegisteredEvent {
+    private final Long userId;
+    private final String email;
+    private final String nickname;
+}
@@ -0,0 +1,14 @@
+package com.example.community_spring.User.Repository;
+
+import com.example.community_spring.User.Entity.UserPurgeTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserPurgeTaskRepository extends JpaRepository<UserPurgeTask, Long> {
+    // 오래된 요청부터 조회
+    List<UserPurgeTask> findAllByOrderByRequestedAtAsc(Pageable pageable);
+}
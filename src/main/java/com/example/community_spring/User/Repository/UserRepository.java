@@ -1,11 +1,17 @@
 package com.example.community_spring.User.Repository;
 
+import com.example.community_spring.User.DTO.response.AuthorSummary;
+import com.example.community_spring.User.DTO.response.UserIdentifier;
 import com.example.community_spring.User.Entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +22,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    // 작성자 요약 정보 일괄 조회 (필요한 컬럼만 프로젝션)
+    @Query("SELECT new com.example.community_spring.User.DTO.response.AuthorSummary(" +
+            "u.userId, u.nickname, u.email, u.profileImage) " +
+            "FROM User u WHERE u.userId IN :userIds")
+    List<AuthorSummary> findAuthorSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 이메일/닉네임 중복 확인 필터 적재용 (userId 순서로 나눠 읽기)
+    @Query("SELECT new com.example.community_spring.User.DTO.response.UserIdentifier(" +
+            "u.userId, u.email, u.nickname) " +
+            "FROM User u WHERE u.userId > :lastUserId ORDER BY u.userId ASC")
+    List<UserIdentifier> findIdentifiersAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE User u SET u.nickname = :nickname, u.profileImage = :profileImage, u.updatedAt = CURRENT_TIMESTAMP WHERE u.userId = :userId")
     void updateProfile(Long userId, String nickname, String profileImage);
@@ -0,0 +1,58 @@
+package com.example.community_spring.User.Service;
+
+import com.example.community_spring.User.DTO.response.AuthorSummary;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserProfileChangedEvent;
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.util.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 작성자 요약 정보 캐시 (userId -> 닉네임, 이메일, 프로필 이미지)
+ * 프로필 변경/회원 탈퇴가 커밋되면 해당 사용자 항목을 무효화한다.
+ */
+@Component
+public class AuthorSummaryCache {
+
+    private final BoundedCache<Long, AuthorSummary> cache;
+
+    public AuthorSummaryCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.getAuthor();
+        this.cache = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+        this.cache.bindTo(meterRegistry, "author");
+    }
+
+    public AuthorSummary get(Long userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * 캐시 버전 조회 (DB 조회 전에 호출)
+     */
+    public long stamp(Long userId) {
+        return cache.stamp(userId);
+    }
+
+    /**
+     * 조회 시작 이후 프로필 변경/탈퇴로 무효화되지 않았다면 캐시에 저장
+     */
+    public boolean putIfUnchanged(AuthorSummary author, long stamp) {
+        return cache.putIfUnchanged(author.getUserId(), author, stamp);
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate(event.getUserId());
+    }
+}
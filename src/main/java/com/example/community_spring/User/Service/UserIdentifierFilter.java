@@ -0,0 +1,285 @@
+package com.example.community_spring.User.Service;
+
+import com.example.community_spring.User.DTO.response.UserIdentifier;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserProfileChangedEvent;
+import com.example.community_spring.User.Event.UserRegisteredEvent;
+import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.config.CacheProperties;
+import com.example.community_spring.util.BloomFilter;
+import com.example.community_spring.util.BoundedCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 이메일/닉네임 중복 확인 필터
+ * 사용 중인 이메일과 닉네임을 블룸 필터에 넣어 두고, 필터에 없으면 DB를 거치지 않고 바로 "사용 가능"으로 답한다.
+ * 필터에 있으면 DB로 확인하고, 오탐으로 밝혀진 값은 작은 캐시에 넣어 같은 값을 반복 입력해도 DB를 다시 조회하지 않는다.
+ *
+ * 회원가입/닉네임 변경 시에는 커밋 전에 바로 추가해서 확인 응답이 늦게 반영되는 구간을 없애고,
+ * 커밋 후 이벤트로 한 번 더 추가해서 재구성 중에 들어온 값이 빠지지 않게 한다.
+ * 블룸 필터는 삭제가 안 되므로 탈퇴/닉네임 변경으로 남은 값이 많아지거나 용량을 넘으면 새로 만들어 교체한다.
+ *
+ * 비교 키는 MySQL 기본 콜레이션(대소문자/악센트 무시, 끝 공백 무시)에 가깝게 정규화하지만
+ * 콜레이션과 완전히 같지는 않고(예: ß와 ss) 다른 인스턴스나 앱 밖에서 추가된 값은 재구성 전까지 반영되지 않는다.
+ * 그래서 이 필터는 이메일/닉네임 확인 API의 빠른 응답에만 쓰고, 회원가입/닉네임 변경은 항상 DB로 중복을 확인한다.
+ */
+@Slf4j
+@Component
+public class UserIdentifierFilter {
+
+    private static final int LOAD_CHUNK_SIZE = 1000; // 재구성 시 한 번에 읽을 사용자 수
+
+    private final UserRepository userRepository;
+    private final IdentifierSet emails;
+    private final IdentifierSet nicknames;
+
+    // 필터 교체 중 추가되는 값을 양쪽에 넣기 위한 잠금 (추가는 읽기 잠금, 교체는 쓰기 잠금)
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 필터에는 남아 있지만 더 이상 사용되지 않는 값 수 (탈퇴, 닉네임 변경)
+    private final AtomicLong staleEntries = new AtomicLong();
+    private volatile boolean loaded = false;
+
+    @Value("${user.identifier-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${user.identifier-filter.min-capacity:100000}")
+    private long minCapacity;
+
+    @Value("${user.identifier-filter.stale-ratio:0.2}")
+    private double staleRatio;
+
+    public UserIdentifierFilter(UserRepository userRepository,
+                                CacheProperties cacheProperties,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        CacheProperties.Spec spec = cacheProperties.getAvailableIdentifier();
+        this.emails = new IdentifierSet("email", userRepository::existsByEmail, spec, meterRegistry);
+        this.nicknames = new IdentifierSet("nickname", userRepository::existsByNickname, spec, meterRegistry);
+    }
+
+    /**
+     * 사용 중인 이메일인지 확인 (적재 전에는 DB로 확인)
+     */
+    public boolean isEmailTaken(String email) {
+        return isTaken(emails, email);
+    }
+
+    /**
+     * 사용 중인 닉네임인지 확인 (적재 전에는 DB로 확인)
+     */
+    public boolean isNicknameTaken(String nickname) {
+        return isTaken(nicknames, nickname);
+    }
+
+    public void markEmailTaken(String email) {
+        markTaken(emails, email);
+    }
+
+    public void markNicknameTaken(String nickname) {
+        markTaken(nicknames, nickname);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 남은 값이 일정 비율을 넘거나 예상 용량을 넘으면 필터 재구성 (시작 시 적재에 실패했으면 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${user.identifier-filter.check-interval-ms:600000}",
+            initialDelayString = "${user.identifier-filter.check-interval-ms:600000}")
+    public void rebuildIfNeeded() {
+        long inserted = Math.max(emails.filter.getInsertionCount(), 1);
+        if (!loaded
+                || staleEntries.get() > inserted * staleRatio
+                || emails.filter.isSaturated() || nicknames.filter.isSaturated()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 사용자를 읽어 새 필터를 만들고 교체
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long staleBefore = staleEntries.get();
+            long capacity = Math.max(minCapacity, userRepository.count() * 2);
+
+            swapLock.writeLock().lock();
+            try {
+                emails.rebuilding = new BloomFilter(capacity, falsePositiveRate);
+                nicknames.rebuilding = new BloomFilter(capacity, falsePositiveRate);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            long lastUserId = 0L;
+            long users = 0;
+            List<UserIdentifier> chunk;
+            do {
+                chunk = userRepository.findIdentifiersAfter(lastUserId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (UserIdentifier identifier : chunk) {
+                    if (identifier.getEmail() != null) {
+                        emails.rebuilding.put(normalize(identifier.getEmail()));
+                    }
+                    if (identifier.getNickname() != null) {
+                        nicknames.rebuilding.put(normalize(identifier.getNickname()));
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    lastUserId = chunk.get(chunk.size() - 1).getUserId();
+                    users += chunk.size();
+                }
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+
+            swapLock.writeLock().lock();
+            try {
+                emails.swap();
+                nicknames.swap();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            // 재구성 중에 생긴 값만 남기고 차감
+            staleEntries.addAndGet(-staleBefore);
+            loaded = true;
+            log.info("이메일/닉네임 중복 확인 필터 구성 완료: 사용자 {}명, 비트 {}개, 해시 {}개",
+                    users, emails.filter.getBitCount(), emails.filter.getHashCount());
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                emails.rebuilding = null;
+                nicknames.rebuilding = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        markEmailTaken(event.getEmail());
+        markNicknameTaken(event.getNickname());
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        // 이전 닉네임은 필터에 남으므로 재구성 대상으로 집계
+        staleEntries.incrementAndGet();
+        markNicknameTaken(event.getNickname());
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        // 탈퇴한 사용자의 이메일/닉네임은 DB 확인 후 사용 가능으로 처리되고, 재구성 시 필터에서 빠진다
+        staleEntries.addAndGet(2);
+    }
+
+    private boolean isTaken(IdentifierSet set, String value) {
+        if (!loaded) {
+            return set.exists.test(value);
+        }
+
+        String key = normalize(value);
+        if (!set.filter.mightContain(key)) {
+            set.filtered.increment();
+            return false;
+        }
+        if (set.available.get(key) != null) {
+            set.cached.increment();
+            return false;
+        }
+
+        // 조회 중에 해당 값이 사용 중으로 바뀌면 캐시에 넣지 않도록 stamp 확인
+        long stamp = set.available.stamp(key);
+        set.queried.increment();
+        boolean exists = set.exists.test(value);
+        if (!exists) {
+            set.available.putIfUnchanged(key, Boolean.TRUE, stamp);
+        }
+        return exists;
+    }
+
+    private void markTaken(IdentifierSet set, String value) {
+        if (value == null) {
+            return;
+        }
+
+        String key = normalize(value);
+        swapLock.readLock().lock();
+        try {
+            set.filter.put(key);
+            BloomFilter rebuilding = set.rebuilding;
+            if (rebuilding != null) {
+                rebuilding.put(key);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        set.available.invalidate(key);
+    }
+
+    // 대소문자/악센트 구분 없이, 끝 공백 제거
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT).stripTrailing();
+    }
+
+    /**
+     * 이메일/닉네임별 필터 + 사용 가능 캐시 + 메트릭
+     */
+    private static class IdentifierSet {
+        private final Predicate<String> exists;
+        private final BoundedCache<String, Boolean> available;
+        private volatile BloomFilter filter = new BloomFilter(1, 0.5);
+        private volatile BloomFilter rebuilding;
+
+        private final Counter filtered;
+        private final Counter cached;
+        private final Counter queried;
+
+        private IdentifierSet(String kind, Predicate<String> exists,
+                              CacheProperties.Spec spec, MeterRegistry meterRegistry) {
+            this.exists = exists;
+            this.available = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+            this.available.bindTo(meterRegistry, "available-" + kind);
+
+            this.filtered = Counter.builder("user.identifier.check").tag("kind", kind).tag("result", "filtered")
+                    .register(meterRegistry);
+            this.cached = Counter.builder("user.identifier.check").tag("kind", kind).tag("result", "cached")
+                    .register(meterRegistry);
+            this.queried = Counter.builder("user.identifier.check").tag("kind", kind).tag("result", "db")
+                    .register(meterRegistry);
+        }
+
+        private void swap() {
+            filter = rebuilding;
+            rebuilding = null;
+        }
+    }
+}
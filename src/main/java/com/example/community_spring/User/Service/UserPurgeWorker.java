@@ -0,0 +1,202 @@
+package com.example.community_spring.User.Service;
+
+import com.example.community_spring.Post.Entity.Comment;
+import com.example.community_spring.Post.Event.PostDeletedEvent;
+import com.example.community_spring.Post.Repository.CommentRepository;
+import com.example.community_spring.Post.Repository.LikesRepository;
+import com.example.community_spring.Post.Repository.PostRepository;
+import com.example.community_spring.User.Entity.UserPurgeTask;
+import com.example.community_spring.User.Event.UserReactionsPurgedEvent;
+import com.example.community_spring.User.Repository.UserPurgeTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴한 사용자의 콘텐츠 정리
+ * UserPurgeTask에 쌓인 사용자별로 게시글은 삭제 표시(하위 데이터는 PostPurgeWorker가 정리)하고
+ * 게시글마다 PostDeletedEvent를 발행해서 게시글 수, 검색/좋아요 색인, 인기 게시글, 캐시가 직접 삭제할 때와 같이 정리되게 하며,
+ * 좋아요와 댓글은 batchSize개씩 짧은 트랜잭션으로 삭제하면서 대상 게시글의 좋아요/댓글 수를 함께 보정한다.
+ * 이때 좋아요 토글/댓글 작성과 같은 순서(Post -> Likes/Comment)로 잠그도록 대상 게시글 행을 먼저 잠그고,
+ * 배치마다 UserReactionsPurgedEvent를 발행해서 커밋 후 인기 게시글 집계와 캐시가 줄어든 좋아요/댓글 수를 반영하게 한다.
+ */
+@Slf4j
+@Component
+public class UserPurgeWorker {
+
+    private final UserPurgeTaskRepository userPurgeTaskRepository;
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter purgedPosts;
+    private final Counter purgedLikes;
+    private final Counter purgedComments;
+    private final AtomicLong pendingUsers = new AtomicLong();
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    @Value("${user.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${user.purge.users-per-run:5}")
+    private int usersPerRun;
+
+    public UserPurgeWorker(UserPurgeTaskRepository userPurgeTaskRepository,
+                           PostRepository postRepository,
+                           LikesRepository likesRepository,
+                           CommentRepository commentRepository,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.userPurgeTaskRepository = userPurgeTaskRepository;
+        this.postRepository = postRepository;
+        this.likesRepository = likesRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        this.purgedPosts = Counter.builder("user.purge.rows").tag("table", "post").register(meterRegistry);
+        this.purgedLikes = Counter.builder("user.purge.rows").tag("table", "likes").register(meterRegistry);
+        this.purgedComments = Counter.builder("user.purge.rows").tag("table", "comment").register(meterRegistry);
+        Gauge.builder("user.purge.pending", pendingUsers, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 정리 대기 중인 탈퇴 사용자 처리
+     */
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:10000}")
+    public void purge() {
+        purgeLock.lock();
+        try {
+            List<UserPurgeTask> tasks = userPurgeTaskRepository.findAllByOrderByRequestedAtAsc(PageRequest.of(0, usersPerRun));
+            for (UserPurgeTask task : tasks) {
+                try {
+                    purgeUser(task.getUserId());
+                    userPurgeTaskRepository.deleteById(task.getUserId());
+                } catch (RuntimeException e) {
+                    // 작업 행이 남아 있으므로 다음 주기에 이어서 처리
+                    log.error("탈퇴 사용자 정리 중 오류 발생: 사용자 ID {}", task.getUserId(), e);
+                }
+            }
+            pendingUsers.set(userPurgeTaskRepository.count());
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    private void purgeUser(Long userId) {
+        long posts = purgePosts(userId);
+        long likes = purgeLikes(userId);
+        long comments = purgeComments(userId);
+
+        log.info("탈퇴 사용자 정리 완료: 사용자 ID {}, 게시글 {}건, 좋아요 {}건, 댓글 {}건",
+                userId, posts, likes, comments);
+    }
+
+    // 게시글 삭제 표시 후 게시글별 삭제 이벤트 발행 (좋아요/댓글 등 하위 데이터는 PostPurgeWorker가 정리)
+    private long purgePosts(Long userId) {
+        long total = 0;
+        int marked;
+        do {
+            Integer result = transactionTemplate.execute(status -> {
+                List<Long> postIds = postRepository.lockLivePostIdsByUserId(userId, batchSize);
+                if (postIds.isEmpty()) {
+                    return 0;
+                }
+                // 잠근 행만 삭제 표시하므로 모두 반영되고, 이벤트는 커밋 후 처리된다
+                postRepository.markDeletedIn(postIds, LocalDateTime.now());
+                postIds.forEach(postId -> eventPublisher.publishEvent(new PostDeletedEvent(postId, userId)));
+                return postIds.size();
+            });
+            marked = result != null ? result : 0;
+            total += marked;
+            purgedPosts.increment(marked);
+        } while (marked >= batchSize);
+        return total;
+    }
+
+    // 대상 게시글 잠금 -> 좋아요 삭제 -> 대상 게시글의 좋아요 수 감소
+    private long purgeLikes(Long userId) {
+        long total = 0;
+        List<Long> postIds;
+        do {
+            List<Long> batch = transactionTemplate.execute(status -> {
+                List<Long> likedPostIds = likesRepository.findPostIdsByUserId(userId, batchSize);
+                if (!likedPostIds.isEmpty()) {
+                    postRepository.lockPostIdsIn(likedPostIds);
+                    likesRepository.deleteByUserIdAndPostIdIn(userId, likedPostIds);
+                    postRepository.decrementLikes(likedPostIds);
+                    eventPublisher.publishEvent(new UserReactionsPurgedEvent(userId,
+                            likedPostIds.stream().collect(Collectors.toMap(Function.identity(), postId -> 1)),
+                            Map.of()));
+                }
+                return likedPostIds;
+            });
+            postIds = batch != null ? batch : List.of();
+
+            total += postIds.size();
+            purgedLikes.increment(postIds.size());
+        } while (postIds.size() >= batchSize);
+        return total;
+    }
+
+    // 대상 게시글 잠금 -> 댓글 삭제 -> 대상 게시글의 댓글 수 감소
+    private long purgeComments(Long userId) {
+        long total = 0;
+        List<Comment> comments;
+        do {
+            List<Comment> batch = transactionTemplate.execute(status -> {
+                List<Comment> userComments = commentRepository.findByUserIdWithLimit(userId, batchSize);
+                if (!userComments.isEmpty()) {
+                    postRepository.lockPostIdsIn(userComments.stream()
+                            .map(Comment::getPostId)
+                            .collect(Collectors.toSet()));
+                    commentRepository.deleteByCommentIdIn(userComments.stream()
+                            .map(Comment::getCommentId)
+                            .collect(Collectors.toList()));
+                    Map<Long, Integer> removedByPostId = subtractCommentCounts(userComments);
+                    eventPublisher.publishEvent(new UserReactionsPurgedEvent(userId, Map.of(), removedByPostId));
+                }
+                return userComments;
+            });
+            comments = batch != null ? batch : List.of();
+
+            total += comments.size();
+            purgedComments.increment(comments.size());
+        } while (comments.size() >= batchSize);
+        return total;
+    }
+
+    // 게시글별 삭제 댓글 수를 같은 감소량끼리 묶어 일괄 UPDATE (게시글별 삭제 댓글 수 반환)
+    private Map<Long, Integer> subtractCommentCounts(List<Comment> comments) {
+        Map<Long, Integer> deltaByPostId = new HashMap<>();
+        for (Comment comment : comments) {
+            deltaByPostId.merge(comment.getPostId(), 1, Integer::sum);
+        }
+
+        Map<Integer, List<Long>> postIdsByDelta = new HashMap<>();
+        deltaByPostId.forEach((postId, delta) ->
+                postIdsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(postId));
+        postIdsByDelta.forEach((delta, postIds) -> postRepository.subtractCommentCount(postIds, delta));
+        return deltaByPostId;
+    }
+}
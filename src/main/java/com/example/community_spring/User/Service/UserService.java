@@ -4,13 +4,20 @@ import com.example.community_spring.User.DTO.request.UpdatePasswordRequest;
 import com.example.community_spring.User.DTO.request.UpdateProfileRequest;
 import com.example.community_spring.User.DTO.response.UserResponse;
 import com.example.community_spring.User.Entity.User;
+import com.example.community_spring.User.Entity.UserPurgeTask;
+import com.example.community_spring.User.Event.UserDeletedEvent;
+import com.example.community_spring.User.Event.UserProfileChangedEvent;
+import com.example.community_spring.User.Repository.UserPurgeTaskRepository;
 import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.auth.PasswordHasher;
 import com.example.community_spring.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,8 +26,12 @@ import java.util.Map;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final UserPurgeTaskRepository userPurgeTaskRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserIdentifierFilter userIdentifierFilter;
 
 //    /**
 //     * 회원가입
@@ -102,7 +113,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // 닉네임 중복 확인 (변경하려는 경우에만)
+        // 닉네임 중복 확인 (변경하려는 경우에만, 필터가 아닌 DB로 확인)
         if (!user.getNickname().equals(request.getNickname()) &&
                 userRepository.existsByNickname(request.getNickname())) {
             throw new IllegalArgumentException("이미 존재하는 닉네임입니다.");
@@ -123,6 +134,10 @@ public class UserService {
 
         // 프로필 업데이트 - 닉네임과 프로필 이미지 모두 전달
         userRepository.updateProfile(userId, request.getNickname(), profileImage);
+        userIdentifierFilter.markNicknameTaken(request.getNickname());
+
+        // 작성자 정보 캐시 무효화, 중복 확인 필터 반영 (커밋 후 처리)
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId, request.getNickname()));
 
         // 업데이트된 사용자 정보 조회
         user = userRepository.findById(userId)
@@ -136,16 +151,17 @@ public class UserService {
 
     /**
      * 비밀번호 업데이트
+     * 해시는 트랜잭션 밖에서 계산하고 저장만 짧은 트랜잭션으로 처리 (해시 대기 중 DB 커넥션 점유 방지)
      */
-    @Transactional
     public void updatePassword(Long userId, UpdatePasswordRequest request) {
         // 사용자 존재 여부 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
-        // 비밀번호 암호화 후 업데이트
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
-        userRepository.updatePassword(userId, encodedPassword);
+        // 비밀번호 암호화 후 업데이트 (BCrypt 전용 실행기에서 처리)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+        transactionTemplate.executeWithoutResult(status -> userRepository.updatePassword(userId, encodedPassword));
     }
 
     // 회원 탈퇴
@@ -157,6 +173,15 @@ public class UserService {
 
         // 사용자 삭제 - 엔티티 객체를 전달
         userRepository.delete(user);
+
+        // 작성한 게시글/댓글/좋아요는 UserPurgeWorker가 나눠서 정리
+        userPurgeTaskRepository.save(UserPurgeTask.builder()
+                .userId(userId)
+                .requestedAt(LocalDateTime.now())
+                .build());
+
+        // 탈퇴 사용자 관련 캐시 정리 (커밋 후 처리)
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 
     /**
@@ -4,9 +4,11 @@ import com.example.community_spring.User.DTO.request.LoginRequest;
 import com.example.community_spring.User.DTO.request.SignupRequest;
 import com.example.community_spring.User.DTO.response.ApiResponse;
 import com.example.community_spring.User.DTO.response.UserResponse;
+import com.example.community_spring.exception.ServiceBusyException;
 import com.example.community_spring.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
@@ -103,6 +105,15 @@ public class AuthController {
                             .message(e.getMessage())
                             .data(null)
                             .build());
+        } catch (ServiceBusyException e) {
+            log.warn("로그인 거부 (비밀번호 해시 실행기 포화): {}", request.getEmail());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.builder()
+                            .success(false)
+                            .message(e.getMessage())
+                            .data(null)
+                            .build());
         } catch (Exception e) {
             log.error("로그인 중 서버 오류: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -4,28 +4,41 @@ import com.example.community_spring.User.DTO.request.LoginRequest;
 import com.example.community_spring.User.DTO.request.SignupRequest;
 import com.example.community_spring.User.DTO.response.UserResponse;
 import com.example.community_spring.User.Entity.User;
+import com.example.community_spring.User.Event.UserRegisteredEvent;
 import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.User.Service.UserIdentifierFilter;
 import com.example.community_spring.util.JwtTokenProvider;
+import com.example.community_spring.exception.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
-
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 회원가입
+     * BCrypt 해시는 수백 ms가 걸리므로 트랜잭션 밖에서 먼저 계산하고, 저장만 짧은 트랜잭션으로 처리한다.
+     * (해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
+     */
     @Override
-    @Transactional
     public UserResponse register(SignupRequest request) {
-        // 이메일 중복 체크
+        // 이메일 중복 체크 (필터는 콜레이션 차이/다른 인스턴스의 가입을 모두 반영하지 못하므로 가입 시에는 DB로 확인)
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
@@ -35,8 +48,8 @@ public class AuthServiceImpl implements AuthService {
             throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
         }
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (BCrypt 전용 실행기에서 처리)
+        String encodedPassword = passwordHasher.encode(request.getPassword());
 
         // User 엔티티 생성 (암호화된 비밀번호 사용)
         User user = User.builder()
@@ -46,15 +59,32 @@ public class AuthServiceImpl implements AuthService {
                 .profileImage(request.getProfileImage())
                 .build();
 
-        // JPA 방식으로 저장 및 반환된 엔티티 사용
-        User savedUser = userRepository.save(user);
-
-        // UserResponse 객체 생성 및 반환
-        return UserResponse.fromEntity(savedUser);
+        try {
+            return transactionTemplate.execute(status -> {
+                // JPA 방식으로 저장 및 반환된 엔티티 사용
+                User savedUser = userRepository.saveAndFlush(user);
+
+                // 중복 확인 필터에 바로 반영하고, 커밋 후 한 번 더 반영
+                userIdentifierFilter.markEmailTaken(savedUser.getEmail());
+                userIdentifierFilter.markNicknameTaken(savedUser.getNickname());
+                eventPublisher.publishEvent(
+                        new UserRegisteredEvent(savedUser.getUserId(), savedUser.getEmail(), savedUser.getNickname()));
+
+                // UserResponse 객체 생성 및 반환
+                return UserResponse.fromEntity(savedUser);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 후 저장 전에 같은 값으로 가입한 경우 (유니크 제약 위반)
+            throw new IllegalArgumentException("이미 사용 중인 이메일 또는 닉네임입니다.");
+        }
     }
 
+    /**
+     * 로그인
+     * 사용자 조회(짧은 읽기) -> 비밀번호 검증(트랜잭션 없음) -> 필요하면 재해시 저장(별도의 짧은 트랜잭션) 순서로 처리해서
+     * BCrypt 실행기를 기다리는 동안 DB 커넥션을 점유하지 않는다.
+     */
     @Override
-    @Transactional(readOnly = true)
     public Map<String, Object> login(LoginRequest request) {
         try {
             // 이메일로 사용자 찾기
@@ -62,10 +92,15 @@ public class AuthServiceImpl implements AuthService {
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이메일입니다."));
 
             // 비밀번호 검증 (matches 메소드 사용)
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
                 throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
             }
 
+            // 저장된 해시의 cost가 현재 strength와 다르면 다시 해시해서 저장
+            if (passwordHasher.needsRehash(user.getPassword())) {
+                rehash(user.getUserId(), request.getPassword());
+            }
+
             // JWT 토큰 생성
             String token = jwtTokenProvider.generateToken(user.getUserId());
 
@@ -88,16 +123,26 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    // 재해시는 부가 작업이므로 실행기가 바쁘면 건너뛰고 다음 로그인 때 다시 시도
+    private void rehash(Long userId, String rawPassword) {
+        try {
+            String encodedPassword = passwordHasher.encode(rawPassword);
+            transactionTemplate.executeWithoutResult(status -> userRepository.updatePassword(userId, encodedPassword));
+            log.info("비밀번호 재해시: 사용자 ID {}, strength {}", userId, passwordHasher.getStrength());
+        } catch (ServiceBusyException e) {
+            log.warn("비밀번호 재해시 건너뜀: 사용자 ID {}", userId);
+        }
+    }
+
+    // 트랜잭션 없이 필터 먼저 확인 (필터에 없으면 커넥션도 사용하지 않음)
     @Override
-    @Transactional(readOnly = true)
     public boolean isEmailDuplicate(String email) {
-        return userRepository.existsByEmail(email);
+        return userIdentifierFilter.isEmailTaken(email);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean isNicknameDuplicate(String nickname) {
-        return userRepository.existsByNickname(nickname);
+        return userIdentifierFilter.isNicknameTaken(nickname);
     }
 
     @Override
@@ -0,0 +1,96 @@
+package com.example.community_spring.auth;
+
+import com.example.community_spring.util.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 요청당 한 번 Authorization 헤더를 검증해 사용자 ID를 보안 컨텍스트에 저장하는 필터
+ * 헤더가 없거나 인증이 필요 없는 공개 GET 요청은 토큰 검증 없이 그대로 통과시킨다.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    // 토큰이 있었지만 유효하지 않았음을 표시하는 요청 속성
+    public static final String INVALID_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".INVALID_TOKEN";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 인증 없이 조회 가능한 GET 요청
+    private static final List<String> PUBLIC_GET_PATTERNS = List.of(
+            "/api/posts",
+            "/api/posts/{postId}",
+            "/api/posts/{postId}/comments",
+            "/api/posts/user/**",
+            "/api/auth/check-email",
+            "/api/auth/check-nickname",
+            "/api/test"
+    );
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        // 익명 요청과 공개 GET 요청은 토큰 검증 생략
+        if (!StringUtils.hasText(authHeader) || isPublicGet(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<Long> userId = Optional.empty();
+        if (authHeader.startsWith(BEARER_PREFIX)) {
+            userId = jwtTokenProvider.resolveUserId(authHeader.substring(BEARER_PREFIX.length()));
+        }
+
+        if (userId.isPresent()) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(new UsernamePasswordAuthenticationToken(
+                    userId.get(), null, Collections.emptyList()));
+            SecurityContextHolder.setContext(context);
+        } else {
+            request.setAttribute(INVALID_TOKEN_ATTRIBUTE, Boolean.TRUE);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isPublicGet(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+
+        // 요청 사용자 기준 정보(likedByMe)를 요청한 경우에는 토큰 검증 필요
+        if (Boolean.parseBoolean(request.getParameter("likedByMe"))) {
+            return false;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : PUBLIC_GET_PATTERNS) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.community_spring.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자 ID를 컨트롤러 파라미터로 주입
+ * JwtAuthenticationFilter가 보안 컨텍스트에 저장한 사용자 ID를 LoginUserArgumentResolver가 꺼내 준다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+
+    // false이면 인증되지 않은 요청에 null 주입
+    boolean required() default true;
+}
@@ -0,0 +1,47 @@
+package com.example.community_spring.auth;
+
+import com.example.community_spring.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @LoginUser Long 파라미터에 보안 컨텍스트의 사용자 ID를 주입
+ */
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+
+        LoginUser loginUser = parameter.getParameterAnnotation(LoginUser.class);
+        if (loginUser != null && !loginUser.required()) {
+            return null;
+        }
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request != null && request.getAttribute(JwtAuthenticationFilter.INVALID_TOKEN_ATTRIBUTE) != null) {
+            throw new UnauthorizedException("유효하지 않은 토큰입니다.");
+        }
+        throw new UnauthorizedException("인증 토큰이 필요합니다.");
+    }
+}
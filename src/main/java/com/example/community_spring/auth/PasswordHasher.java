@@ -0,0 +1,173 @@
+package com.example.community_spring.auth;
+
+import com.example.community_spring.config.PasswordHashProperties;
+import com.example.community_spring.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해시/검증 전용 실행기
+ * 해시 연산은 고정 크기 스레드 풀과 길이 제한이 있는 대기열에서만 실행해서
+ * 로그인/회원가입이 몰려도 요청 스레드 전체가 BCrypt에 묶이지 않도록 하고,
+ * 대기열이 가득 차면 기다리지 않고 ServiceBusyException으로 바로 거부한다.
+ *
+ * strength는 시작 시 해시 1회 시간을 측정해서 목표 시간을 넘지 않는 가장 높은 값으로 정하고,
+ * 저장된 해시의 cost가 다르면 로그인 시 다시 해시할 수 있도록 needsRehash를 제공한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordHashProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.getStrength() != null ? properties.getStrength() : calibrate(properties);
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = properties.getTimeout().toMillis();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("op", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("password.hash.strength", this, PasswordHasher::getStrength).register(meterRegistry);
+
+        log.info("비밀번호 해시 실행기 준비: strength {}, 스레드 {}개, 대기열 {}",
+                strength, properties.getThreads(), properties.getQueueCapacity());
+    }
+
+    /**
+     * 비밀번호 해시
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 검증
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Boolean matched = execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 strength와 다르면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 전용 풀에서 실행하고 결과 대기 (대기열 초과/시간 초과는 바로 ServiceBusyException)
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException("요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 최소 strength에서 해시 시간을 측정하고, strength가 1 오를 때마다 시간이 2배가 되는 점을 이용해
+     * 목표 시간을 넘지 않는 가장 높은 strength 선택
+     */
+    private static int calibrate(PasswordHashProperties properties) {
+        int minStrength = properties.getMinStrength();
+        int maxStrength = Math.max(properties.getMaxStrength(), minStrength);
+        long targetNanos = properties.getTargetLatency().toNanos();
+
+        // JIT 워밍업 후 가장 빠른 측정값 사용 (다른 작업에 의한 지연 제외)
+        new BCryptPasswordEncoder(4).encode("calibration");
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long estimatedNanos = bestNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt strength 보정: strength {} 측정 {}ms -> strength {} (예상 {}ms, 목표 {}ms)",
+                minStrength, TimeUnit.NANOSECONDS.toMillis(bestNanos), strength,
+                TimeUnit.NANOSECONDS.toMillis(estimatedNanos), properties.getTargetLatency().toMillis());
+        return strength;
+    }
+}
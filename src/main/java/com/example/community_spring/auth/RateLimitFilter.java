@@ -0,0 +1,128 @@
+package com.example.community_spring.auth;
+
+import com.example.community_spring.User.DTO.response.ApiResponse;
+import com.example.community_spring.config.RateLimitProperties;
+import com.example.community_spring.util.SlidingWindowRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청 수 제한 필터
+ * 설정된 규칙(메서드 + 경로)에 맞는 요청을 IP 또는 로그인 사용자 기준으로 세어서,
+ * 한도를 넘으면 컨트롤러(와 BCrypt 연산)까지 가지 않고 429와 Retry-After로 응답한다.
+ * 사용자 기준 규칙을 위해 JwtAuthenticationFilter 다음에 실행된다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<LimitedRule> rules = new ArrayList<>();
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            String name = entry.getKey();
+            RateLimitProperties.Rule rule = entry.getValue();
+            SlidingWindowRateLimiter limiter =
+                    new SlidingWindowRateLimiter(rule.getLimit(), rule.getWindow(), properties.getMaxKeys());
+
+            Counter rejected = Counter.builder("rate_limit.rejected")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+            Gauge.builder("rate_limit.keys", limiter, SlidingWindowRateLimiter::size)
+                    .tag("rule", name)
+                    .register(meterRegistry);
+
+            rules.add(new LimitedRule(name, rule, limiter, rejected));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (LimitedRule limitedRule : rules) {
+            if (!limitedRule.matches(request.getMethod(), path, pathMatcher)) {
+                continue;
+            }
+
+            long retryAfterMillis = limitedRule.limiter.tryAcquire(resolveKey(limitedRule.rule, request));
+            if (retryAfterMillis > 0) {
+                limitedRule.rejected.increment();
+                log.warn("요청 수 제한 초과: 규칙 {}, IP {}", limitedRule.name, request.getRemoteAddr());
+                writeTooManyRequests(response, retryAfterMillis);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // 사용자 기준 규칙은 로그인 사용자 ID, 그 외에는 클라이언트 IP
+    private String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.builder()
+                .success(false)
+                .message("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.")
+                .data(null)
+                .build());
+    }
+
+    private static class LimitedRule {
+        private final String name;
+        private final RateLimitProperties.Rule rule;
+        private final SlidingWindowRateLimiter limiter;
+        private final Counter rejected;
+
+        private LimitedRule(String name, RateLimitProperties.Rule rule,
+                            SlidingWindowRateLimiter limiter, Counter rejected) {
+            this.name = name;
+            this.rule = rule;
+            this.limiter = limiter;
+            this.rejected = rejected;
+        }
+
+        private boolean matches(String method, String path, AntPathMatcher pathMatcher) {
+            return (rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(method))
+                    && pathMatcher.match(rule.getPath(), path);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.community_spring.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    // 작성자 요약 정보 캐시
+    private Spec author = new Spec(10000, Duration.ofMinutes(10));
+
+    // 게시글 상세 캐시
+    private Spec postDetail = new Spec(1000, Duration.ofMinutes(1));
+
+    // 사용자별 게시글 수
+    private Spec userPostCount = new Spec(10000, Duration.ofMinutes(10));
+
+    // 서명 검증을 마친 JWT (토큰 만료 시각까지만 유지)
+    private Spec token = new Spec(10000, Duration.ofMinutes(30));
+
+    // 사용자별 좋아요한 게시글 비트맵
+    private Spec likedPosts = new Spec(5000, Duration.ofMinutes(30));
+
+    // 블룸 필터 오탐으로 확인된 사용 가능 이메일/닉네임
+    private Spec availableIdentifier = new Spec(10000, Duration.ofMinutes(5));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private int maxSize;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.community_spring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password.hash")
+public class PasswordHashProperties {
+
+    // BCrypt 전용 스레드 수 (요청 스레드와 별도로 CPU 코어 수 이하로 유지)
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // 대기열 최대 길이 (가득 차면 기다리지 않고 바로 거부)
+    private int queueCapacity = 64;
+
+    // 요청 스레드가 해시 결과를 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(5);
+
+    // 해시 1회 목표 시간 (시작 시 이 시간을 넘지 않는 가장 높은 strength 선택)
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    // 보정 결과와 상관없이 지킬 strength 범위
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    // 지정하면 보정하지 않고 이 strength 사용
+    private Integer strength;
+}
@@ -0,0 +1,45 @@
+package com.example.community_spring.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    // 요청 수 제한 사용 여부
+    private boolean enabled = true;
+
+    // 규칙별로 추적할 최대 키(IP/사용자) 수
+    private int maxKeys = 100000;
+
+    // 규칙 이름 -> 규칙
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    public enum KeyType {
+        IP,   // 클라이언트 IP 기준
+        USER  // 로그인 사용자 기준 (비로그인 요청은 IP 기준)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String method;
+        private String path;
+        private KeyType key = KeyType.IP;
+        private int limit;
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
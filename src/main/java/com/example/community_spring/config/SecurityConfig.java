@@ -1,11 +1,17 @@
 package com.example.community_spring.config;
 
+import com.example.community_spring.auth.JwtAuthenticationFilter;
+import com.example.community_spring.auth.RateLimitFilter;
+import com.example.community_spring.util.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,18 +23,29 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           JwtTokenProvider jwtTokenProvider,
+                                           RateLimitProperties rateLimitProperties,
+                                           MeterRegistry meterRegistry,
+                                           ObjectMapper objectMapper) throws Exception {
         http
                 .cors().and()
                 .csrf().disable()
+                .sessionManagement((session) -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
                 .authorizeHttpRequests((authz) -> authz
-                        .requestMatchers("/**").permitAll() // 모든 요청 허용
-                );
+                        .requestMatchers("/**").permitAll() // 모든 요청 허용 (인증 필요 여부는 @LoginUser에서 판단)
+                )
+                // 요청당 한 번 JWT 인증 (서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않음)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        // 인증 결과(사용자 ID)를 기준으로 쓸 수 있도록 JWT 인증 다음에 요청 수 제한
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry, objectMapper),
+                    JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
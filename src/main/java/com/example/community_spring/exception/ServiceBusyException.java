@@ -0,0 +1,15 @@
+package com.example.community_spring.exception;
+
+/**
+ * 서버가 처리 한도에 도달해서 요청을 바로 거부할 때 사용 (503)
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.community_spring.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한과 TTL을 가진 인메모리 LRU 캐시
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 만료된 항목은 조회 시점에 제거한다.
+ * 무효화 시 키가 속한 버전 스트라이프를 올려서, 무효화 이전에 읽기 시작한 값이 뒤늦게 저장되는 것을 막는다.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        // 접근 순서 기준 LinkedHashMap으로 LRU 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 캐시 조회 (없거나 만료된 경우 null)
+    public V get(K key) {
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(System.currentTimeMillis())) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    // 캐시 저장 (기본 TTL 적용)
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    // 캐시 저장 (지정한 만료 시각과 기본 TTL 중 빠른 쪽 적용)
+    public void put(K key, V value, long expiresAtMillis) {
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, expiresAt));
+        }
+    }
+
+    /**
+     * 현재 버전 조회
+     * 원본을 읽기 전에 받아 두었다가 putIfUnchanged에 넘긴다.
+     */
+    public long stamp(K key) {
+        return versions.get(stripeOf(key));
+    }
+
+    // 읽기 시작 이후 무효화가 없었던 경우에만 저장
+    public boolean putIfUnchanged(K key, V value, long stamp) {
+        synchronized (entries) {
+            if (versions.get(stripeOf(key)) != stamp) {
+                return false;
+            }
+            entries.put(key, new CacheEntry<>(value, System.currentTimeMillis() + ttlMillis));
+            return true;
+        }
+    }
+
+    // 단일 항목 무효화
+    public void invalidate(K key) {
+        synchronized (entries) {
+            versions.incrementAndGet(stripeOf(key));
+            entries.remove(key);
+        }
+    }
+
+    // 조건에 맞는 항목 무효화 (진행 중인 모든 읽기도 함께 무효화)
+    public void invalidateIf(Predicate<V> predicate) {
+        synchronized (entries) {
+            bumpAllVersions();
+            entries.values().removeIf(entry -> predicate.test(entry.value));
+        }
+    }
+
+    // 전체 무효화
+    public void invalidateAll() {
+        synchronized (entries) {
+            bumpAllVersions();
+            entries.clear();
+        }
+    }
+
+    // 만료되지 않은 모든 값 순회 (LRU 순서와 통계에는 영향 없음)
+    public void forEachValue(Consumer<V> action) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            for (CacheEntry<V> entry : entries.values()) {
+                if (!entry.isExpired(now)) {
+                    action.accept(entry.value);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 적중/실패/제거 횟수와 크기를 메트릭으로 등록
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", this, cache -> cache.getHitCount())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, cache -> cache.getMissCount())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, cache -> cache.getEvictionCount())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", this, cache -> cache.size())
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void bumpAllVersions() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    private int stripeOf(K key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.community_spring.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서 인코딩/디코딩
+ * (정렬 기준 시각, ID) 쌍을 URL에 그대로 쓸 수 있는 불투명 문자열로 변환한다.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    // 커서 생성
+    public static String encode(LocalDateTime at, Long id) {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 해석
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+
+            LocalDateTime at = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new Cursor(at, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private final LocalDateTime at;
+        private final Long id;
+    }
+}
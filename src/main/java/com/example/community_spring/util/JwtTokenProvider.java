@@ -1,27 +1,47 @@
 package com.example.community_spring.util;
 
+import com.example.community_spring.config.CacheProperties;
 import com.example.community_spring.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
 
-    // 비밀키 생성
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 서명 키와 파서는 생성 비용이 있으므로 한 번만 만들어 재사용
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    // 검증된 토큰 캐시 (토큰 SHA-256 다이제스트 -> 사용자 ID)
+    private final BoundedCache<String, Long> verifiedTokens;
+
+    public JwtTokenProvider(JwtProperties jwtProperties,
+                            CacheProperties cacheProperties,
+                            MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        CacheProperties.Spec spec = cacheProperties.getToken();
+        this.verifiedTokens = new BoundedCache<>(spec.getMaxSize(), spec.getTtl());
+        this.verifiedTokens.bindTo(meterRegistry, "verified-token");
     }
 
     // 토큰 생성
@@ -33,38 +53,68 @@ public class JwtTokenProvider {
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 토큰에서 사용자 ID 추출
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 토큰 검증과 사용자 ID 추출을 한 번에 처리
+     * 이미 검증한 토큰은 만료 시각 전까지 서명 검증 없이 캐시에서 돌려준다.
+     */
+    public Optional<Long> resolveUserId(String token) {
+        if (!StringUtils.hasText(token)) {
+            log.error("JWT 토큰이 비어있음");
+            return Optional.empty();
+        }
 
-        return Long.parseLong(claims.getSubject());
-    }
+        String digest = digest(token);
+        Long cachedUserId = verifiedTokens.get(digest);
+        if (cachedUserId != null) {
+            return Optional.of(cachedUserId);
+        }
 
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Long userId = Long.parseLong(claims.getSubject());
+
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                verifiedTokens.put(digest, userId, expiration.getTime());
+            }
+            return Optional.of(userId);
         } catch (MalformedJwtException ex) {
             log.error("잘못된 JWT 토큰");
         } catch (ExpiredJwtException ex) {
             log.error("만료된 JWT 토큰");
         } catch (UnsupportedJwtException ex) {
             log.error("지원되지 않는 JWT 토큰");
+        } catch (JwtException ex) {
+            log.error("유효하지 않은 JWT 서명");
         } catch (IllegalArgumentException ex) {
             log.error("JWT 토큰이 비어있음");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    // 토큰에서 사용자 ID 추출
+    public Long getUserIdFromToken(String token) {
+        return resolveUserId(token)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다."));
+    }
+
+    // 토큰 유효성 검증
+    public boolean validateToken(String token) {
+        return resolveUserId(token).isPresent();
+    }
+
+    // 캐시 키로 원본 토큰 대신 다이제스트 사용
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
-}
\ No newline at end of file
+}
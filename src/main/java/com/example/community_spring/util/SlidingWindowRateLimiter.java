@@ -0,0 +1,146 @@
+package com.example.community_spring.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 슬라이딩 윈도우 요청 수 제한기
+ * 키마다 (현재 윈도우 시작 시각, 현재 윈도우 요청 수, 직전 윈도우 요청 수)만 저장하고,
+ * 직전 윈도우 요청 수를 경과 비율만큼 줄여 더하는 방식으로 최근 window 동안의 요청 수를 추정한다.
+ * 상태 갱신은 불변 객체에 대한 CAS로 처리해서 잠금 없이 동작한다.
+ *
+ * 추적하는 키 수가 maxKeys에 이르면 오래된 키를 정리하되, 전체 정리는 윈도우의 일정 비율 간격으로 한 번만 수행해서
+ * IP를 바꿔 가며 요청해도 요청마다 전체 맵을 훑지 않는다.
+ * 정리 후에도 가득 차 있으면 새 키는 하나의 공용 상태(overflow)를 함께 쓰도록 해서 제한 없이 통과하는 일이 없게 한다.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final int SWEEPS_PER_WINDOW = 4; // 키가 가득 찼을 때 윈도우당 최대 전체 정리 횟수
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final long sweepIntervalMillis;
+    private final ConcurrentHashMap<String, AtomicReference<WindowState>> states = new ConcurrentHashMap<>();
+
+    // 추적 한도를 넘은 새 키들이 함께 쓰는 상태
+    private final AtomicReference<WindowState> overflow = new AtomicReference<>(new WindowState(0, 0, 0));
+    private final AtomicLong lastSweep;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, int maxKeys) {
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.maxKeys = maxKeys;
+        this.sweepIntervalMillis = Math.max(1, windowMillis / SWEEPS_PER_WINDOW);
+        this.lastSweep = new AtomicLong(-sweepIntervalMillis);
+    }
+
+    /**
+     * 요청 1건 시도
+     *
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.currentTimeMillis());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicReference<WindowState> ref = states.get(key);
+        if (ref == null) {
+            if (states.size() >= maxKeys) {
+                sweepIfDue(now);
+            }
+            ref = states.size() < maxKeys
+                    ? states.computeIfAbsent(key, k -> new AtomicReference<>(new WindowState(alignToWindow(now), 0, 0)))
+                    : overflow;
+        }
+
+        while (true) {
+            WindowState current = ref.get();
+            WindowState rolled = current.rollTo(alignToWindow(now), windowMillis);
+
+            long elapsed = now - rolled.windowStart;
+            double previousWeight = 1.0 - (double) elapsed / windowMillis;
+            double estimated = rolled.previousCount * previousWeight + rolled.currentCount;
+
+            if (estimated + 1 > limit) {
+                // 거부된 요청은 세지 않지만 윈도우가 넘어간 상태는 반영
+                if (rolled != current) {
+                    ref.compareAndSet(current, rolled);
+                }
+                return retryAfterMillis(rolled, elapsed);
+            }
+
+            WindowState next = new WindowState(rolled.windowStart, rolled.currentCount + 1, rolled.previousCount);
+            if (ref.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    // 직전 정리 후 sweepIntervalMillis가 지났을 때만 한 스레드가 전체 정리
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last >= sweepIntervalMillis && lastSweep.compareAndSet(last, now)) {
+            evictIdle(now);
+        }
+    }
+
+    /**
+     * 두 윈도우 이상 요청이 없던 키 정리
+     */
+    public void evictIdle(long now) {
+        long idleBefore = alignToWindow(now) - windowMillis;
+        states.values().removeIf(ref -> ref.get().windowStart < idleBefore);
+    }
+
+    // 추정 요청 수 + 1이 limit 이하로 내려갈 때까지 남은 시간
+    private long retryAfterMillis(WindowState state, long elapsed) {
+        long untilNextWindow = windowMillis - elapsed;
+        if (state.currentCount + 1 <= limit) {
+            // 현재 윈도우 안에서 직전 윈도우 가중치가 줄어들면 허용
+            // previousCount * (1 - (elapsed + t) / window) + currentCount + 1 <= limit 을 만족하는 t
+            double allowedPrevious = limit - state.currentCount - 1;
+            long wait = (long) Math.ceil(windowMillis * (1.0 - allowedPrevious / state.previousCount)) - elapsed;
+            return Math.max(1, Math.min(wait, untilNextWindow));
+        }
+
+        // 현재 윈도우 요청 수만으로 한도를 넘으면, 다음 윈도우에서 이 요청 수가 직전 윈도우로 넘어가 충분히 줄어드는 시점
+        // currentCount * (1 - t' / window) + 1 <= limit 을 만족하는 다음 윈도우 내 경과 시간 t'
+        long intoNextWindow = (long) Math.ceil(windowMillis * (1.0 - (double) (limit - 1) / state.currentCount));
+        return untilNextWindow + Math.min(Math.max(0, intoNextWindow), windowMillis);
+    }
+
+    private long alignToWindow(long time) {
+        return time - (time % windowMillis);
+    }
+
+    private static final class WindowState {
+        private final long windowStart;
+        private final int currentCount;
+        private final int previousCount;
+
+        private WindowState(long windowStart, int currentCount, int previousCount) {
+            this.windowStart = windowStart;
+            this.currentCount = currentCount;
+            this.previousCount = previousCount;
+        }
+
+        // 현재 시각이 속한 윈도우로 이동 (한 윈도우 넘어가면 현재 -> 직전, 그 이상이면 초기화)
+        private WindowState rollTo(long windowStart, long windowMillis) {
+            if (windowStart == this.windowStart) {
+                return this;
+            }
+            if (windowStart - this.windowStart == windowMillis) {
+                return new WindowState(windowStart, 0, currentCount);
+            }
+            return new WindowState(windowStart, 0, 0);
+        }
+    }
+}
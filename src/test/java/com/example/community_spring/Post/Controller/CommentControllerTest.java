@@ -0,0 +1,38 @@
+package com.example.community_spring.Post.Controller;
+
+import com.example.community_spring.Post.Service.CommentService;
+import com.example.community_spring.Post.Service.ContentVersions;
+import com.example.community_spring.User.DTO.response.ApiResponse;
+import com.example.community_spring.util.CursorCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommentControllerTest {
+
+    @Test
+    @DisplayName("잘못된 커서로 댓글 목록을 요청하면 400")
+    void malformedCursorIsBadRequest() {
+        CommentService commentService = mock(CommentService.class);
+        ContentVersions contentVersions = mock(ContentVersions.class);
+        WebRequest webRequest = mock(WebRequest.class);
+        when(contentVersions.commentsTag(1L)).thenReturn("W/\"comments-1\"");
+        when(commentService.getCommentsByPostId(1L, "broken", 20))
+                .thenAnswer(invocation -> CursorCodec.decode("broken"));
+
+        CommentController controller = new CommentController(commentService, contentVersions, new ObjectMapper());
+        ResponseEntity<?> response = controller.getCommentsByPostId(1L, "broken", 20, false, webRequest);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        ApiResponse<?> body = (ApiResponse<?>) response.getBody();
+        assertThat(body.isSuccess()).isFalse();
+        assertThat(body.getMessage()).isEqualTo("유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.CommentListResponse;
+import com.example.community_spring.Post.DTO.response.CommentResponse;
+import com.example.community_spring.Post.Entity.Comment;
+import com.example.community_spring.Post.Repository.CommentRepository;
+import com.example.community_spring.Post.Repository.PostRepository;
+import com.example.community_spring.User.Repository.UserRepository;
+import com.example.community_spring.util.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private CommentRepository commentRepository;
+    private PostRepository postRepository;
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        postRepository = mock(PostRepository.class);
+        commentService = new CommentService(commentRepository, postRepository, mock(UserRepository.class),
+                mock(AuthorHydrator.class), mock(ApplicationEventPublisher.class));
+        when(postRepository.existsById(1L)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 hasNext와 마지막 댓글 기준 nextCursor를 반환")
+    void firstPageReturnsCursorOfLastComment() {
+        when(commentRepository.findByPostIdOrderByCommentAtAscCommentIdAsc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(comment(1L), comment(2L), comment(3L)));
+
+        CommentListResponse response = commentService.getCommentsByPostId(1L, null, 2);
+
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getComments()).extracting(CommentResponse::getCommentId).containsExactly(1L, 2L);
+
+        CursorCodec.Cursor next = CursorCodec.decode(response.getNextCursor());
+        assertThat(next.getAt()).isEqualTo(BASE.plusSeconds(2));
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("nextCursor로 다음 페이지를 요청하면 커서 위치 이후부터 조회하고 마지막 페이지는 커서 없음")
+    void nextCursorRoundTrips() {
+        String cursor = CursorCodec.encode(BASE.plusSeconds(2), 2L);
+        when(commentRepository.findCommentsAfterCursor(eq(1L), eq(BASE.plusSeconds(2)), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(comment(3L)));
+
+        CommentListResponse response = commentService.getCommentsByPostId(1L, cursor, 2);
+
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getComments()).extracting(CommentResponse::getCommentId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 조회 없이 IllegalArgumentException")
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> commentService.getCommentsByPostId(1L, "broken-cursor!", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 IllegalArgumentException")
+    void pageSizeIsValidated() {
+        assertThatThrownBy(() -> commentService.getCommentsByPostId(1L, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> commentService.getCommentsByPostId(1L, null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Comment comment(Long commentId) {
+        return Comment.builder()
+                .commentId(commentId)
+                .postId(1L)
+                .userId(10L)
+                .content("댓글 " + commentId)
+                .commentAt(BASE.plusSeconds(commentId))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.community_spring.Post.Service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("한글 연속 구간은 2글자씩 겹치게 나눔")
+    void hangulIsSplitIntoOverlappingBigrams() {
+        assertThat(PostSearchIndex.tokenize("커뮤니티"))
+                .containsOnly(Map.entry("커뮤", 1), Map.entry("뮤니", 1), Map.entry("니티", 1));
+    }
+
+    @Test
+    @DisplayName("한 글자 한글은 그대로 토큰")
+    void singleHangulCharacterIsKept() {
+        assertThat(PostSearchIndex.tokenize("글 하나"))
+                .containsOnly(Map.entry("글", 1), Map.entry("하나", 1));
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 텍스트는 소문자 단어 단위이고 구두점에서 끊김")
+    void otherTextIsSplitIntoLowercaseWords() {
+        assertThat(PostSearchIndex.tokenize("Spring Boot, spring-boot 3.4"))
+                .containsOnly(Map.entry("spring", 2), Map.entry("boot", 2), Map.entry("3", 1), Map.entry("4", 1));
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 따로 토큰으로 분리")
+    void mixedHangulAndLatinAreSeparated() {
+        assertThat(PostSearchIndex.tokenize("JPA에서 N+1문제"))
+                .containsOnly(Map.entry("jpa", 1), Map.entry("에서", 1), Map.entry("n", 1),
+                        Map.entry("1", 1), Map.entry("문제", 1));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 등장 횟수만큼 셈")
+    void repeatedTermsAreCounted() {
+        assertThat(PostSearchIndex.tokenize("질문 질문 질문입니다"))
+                .containsEntry("질문", 3)
+                .containsEntry("문입", 1);
+    }
+
+    @Test
+    @DisplayName("null이나 공백만 있으면 빈 결과")
+    void blankTextHasNoTerms() {
+        assertThat(PostSearchIndex.tokenize(null)).isEmpty();
+        assertThat(PostSearchIndex.tokenize("   ")).isEmpty();
+        assertThat(PostSearchIndex.tokenize("!?")).isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.community_spring.Post.Service;
+
+import com.example.community_spring.Post.DTO.response.PostResponse;
+import com.example.community_spring.Post.Entity.Post;
+import com.example.community_spring.Post.Event.CommentCreatedEvent;
+import com.example.community_spring.Post.Event.LikeToggledEvent;
+import com.example.community_spring.Post.Event.PostCreatedEvent;
+import com.example.community_spring.Post.Event.PostViewedEvent;
+import com.example.community_spring.Post.Repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TrendingServiceTest {
+
+    private static final Duration HALF_LIFE = Duration.ofMinutes(1);
+
+    private MutableClock clock;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-01T00:00:00Z").toEpochMilli());
+        trendingService = new TrendingService(mock(PostRepository.class), mock(AuthorHydrator.class),
+                HALF_LIFE, Duration.ofDays(100_000), 10, clock);
+        trendingService.onPostCreated(new PostCreatedEvent(post(1L)));
+        trendingService.onPostCreated(new PostCreatedEvent(post(2L)));
+    }
+
+    @Test
+    @DisplayName("오래된 반응은 반감기마다 절반으로 줄어 최근 반응이 더 많은 게시글보다 뒤로 밀림")
+    void olderActivityDecays() {
+        view(1L, 3);
+        clock.advance(HALF_LIFE.multipliedBy(2));
+        // 게시글 1: 3 / 4 = 0.75, 게시글 2: 2
+        view(2L, 2);
+
+        trendingService.refresh();
+
+        assertThat(rankedIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 시각이면 좋아요와 댓글이 조회보다 높은 가중치")
+    void likesAndCommentsOutweighViews() {
+        view(1L, 4);
+        trendingService.onLikeToggled(new LikeToggledEvent(2L, 10L, true));
+        trendingService.refresh();
+        assertThat(rankedIds()).containsExactly(2L, 1L);
+
+        // 좋아요 취소 후 댓글 1개(3)는 조회 4회보다 낮음
+        trendingService.onLikeToggled(new LikeToggledEvent(2L, 10L, false));
+        trendingService.onCommentCreated(new CommentCreatedEvent(2L, 100L, 10L));
+        trendingService.refresh();
+        assertThat(rankedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 점수 비율은 그대로 유지")
+    void rebaseKeepsRelativeScores() {
+        trendingService.onLikeToggled(new LikeToggledEvent(1L, 10L, true));
+        clock.advance(HALF_LIFE.dividedBy(2));
+        trendingService.refresh();
+        clock.advance(HALF_LIFE.dividedBy(2));
+        trendingService.refresh();
+
+        // 게시글 1: 5 / 2 = 2.5
+        view(2L, 2);
+        trendingService.refresh();
+        assertThat(rankedIds()).containsExactly(1L, 2L);
+
+        view(2L, 1);
+        trendingService.refresh();
+        assertThat(rankedIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("반감기의 수천 배가 지나도 점수가 넘치지 않고 새 반응 순서대로 정렬")
+    void rebaseKeepsScoresFinite() {
+        view(1L, 1);
+        for (int i = 0; i < 200; i++) {
+            clock.advance(HALF_LIFE.multipliedBy(10));
+            trendingService.refresh();
+        }
+
+        view(1L, 1);
+        view(2L, 2);
+        trendingService.refresh();
+
+        assertThat(rankedIds()).containsExactly(2L, 1L);
+    }
+
+    private void view(Long postId, int times) {
+        for (int i = 0; i < times; i++) {
+            trendingService.onPostViewed(new PostViewedEvent(postId));
+        }
+    }
+
+    private List<Long> rankedIds() {
+        return trendingService.getTrending(10).stream().map(PostResponse::getPostId).toList();
+    }
+
+    private Post post(Long postId) {
+        return Post.builder()
+                .postId(postId)
+                .userId(postId)
+                .title("게시글 " + postId)
+                .createdAt(LocalDateTime.now(clock))
+                .likes(0)
+                .views(0)
+                .commentCount(0)
+                .build();
+    }
+
+    // 테스트에서 직접 움직이는 시계
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.community_spring.auth;
+
+import com.example.community_spring.config.PasswordHashProperties;
+import com.example.community_spring.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private static PasswordHashProperties properties(Integer strength, Duration targetLatency) {
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(Duration.ofSeconds(30));
+        properties.setTargetLatency(targetLatency);
+        properties.setMinStrength(4);
+        properties.setMaxStrength(5);
+        properties.setStrength(strength);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("목표 시간이 매우 짧으면 최소 strength 사용")
+    void calibrationStopsAtMinStrength() {
+        PasswordHasher hasher = new PasswordHasher(properties(null, Duration.ofNanos(1)), new SimpleMeterRegistry());
+        try {
+            assertThat(hasher.getStrength()).isEqualTo(4);
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분히 길어도 최대 strength를 넘지 않음")
+    void calibrationIsCappedAtMaxStrength() {
+        PasswordHasher hasher = new PasswordHasher(properties(null, Duration.ofHours(1)), new SimpleMeterRegistry());
+        try {
+            assertThat(hasher.getStrength()).isEqualTo(5);
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 현재 strength와 다를 때만 다시 해시")
+    void needsRehashComparesCost() {
+        PasswordHasher hasher = new PasswordHasher(properties(5, Duration.ofMillis(250)), new SimpleMeterRegistry());
+        try {
+            String encoded = hasher.encode("password1!");
+
+            assertThat(encoded).startsWith("$2a$05$");
+            assertThat(hasher.matches("password1!", encoded)).isTrue();
+            assertThat(hasher.needsRehash(encoded)).isFalse();
+            assertThat(hasher.needsRehash(encoded.replace("$2a$05$", "$2a$04$"))).isTrue();
+            assertThat(hasher.needsRehash(encoded.replace("$2a$05$", "$2b$10$"))).isTrue();
+            assertThat(hasher.needsRehash("plain-text")).isFalse();
+            assertThat(hasher.needsRehash(null)).isFalse();
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 모두 차 있으면 기다리지 않고 ServiceBusyException")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 1회 해시에 충분히 오래 걸리는 strength로 스레드 1개와 대기열 1칸을 채움
+        PasswordHasher hasher = new PasswordHasher(properties(14, Duration.ofMillis(250)), meterRegistry);
+        try {
+            CompletableFuture.runAsync(() -> hasher.encode("running"));
+            CompletableFuture.runAsync(() -> hasher.encode("queued"));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (gauge(meterRegistry, "password.hash.active") < 1 || gauge(meterRegistry, "password.hash.queue") < 1) {
+                assertThat(System.currentTimeMillis()).as("작업이 풀과 대기열을 채우지 못함").isLessThan(deadline);
+                Thread.sleep(5);
+            }
+
+            assertThatThrownBy(() -> hasher.encode("rejected"))
+                    .isInstanceOf(ServiceBusyException.class);
+            assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            hasher.shutdown();
+        }
+    }
+
+    private static double gauge(SimpleMeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.community_spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+    void evictsLeastRecentlyUsed() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(2, Duration.ofMinutes(1));
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+
+        // 1을 사용해서 2가 가장 오래된 항목이 되도록
+        assertThat(cache.get(1L)).isEqualTo("a");
+        cache.put(3L, "c");
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(3L)).isEqualTo("c");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 조회 시 제거")
+    void expiredEntryIsRemovedOnRead() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        cache.put(1L, "a", System.currentTimeMillis() - 1);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지정한 만료 시각이 기본 TTL보다 늦으면 기본 TTL 적용")
+    void explicitExpiryIsCappedByTtl() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ZERO);
+        cache.put(1L, "a", Long.MAX_VALUE);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("stamp 이후 무효화가 없으면 putIfUnchanged 저장")
+    void putIfUnchangedStoresWhenNotInvalidated() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        long stamp = cache.stamp(1L);
+
+        assertThat(cache.putIfUnchanged(1L, "a", stamp)).isTrue();
+        assertThat(cache.get(1L)).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("stamp 이후 같은 키가 무효화되면 오래된 값을 저장하지 않음")
+    void putIfUnchangedRejectsAfterInvalidate() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        long stamp = cache.stamp(1L);
+
+        cache.invalidate(1L);
+
+        assertThat(cache.putIfUnchanged(1L, "stale", stamp)).isFalse();
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 스트라이프의 키가 무효화되어도 저장 가능")
+    void invalidateOnOtherStripeDoesNotBlockPut() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        long stamp = cache.stamp(1L);
+
+        cache.invalidate(2L);
+
+        assertThat(cache.putIfUnchanged(1L, "a", stamp)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 스트라이프의 다른 키가 무효화되면 보수적으로 저장하지 않음")
+    void invalidateOnSameStripeBlocksPut() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        long stamp = cache.stamp(1L);
+
+        // 스트라이프 수(64)만큼 떨어진 키는 같은 스트라이프
+        cache.invalidate(65L);
+
+        assertThat(cache.putIfUnchanged(1L, "a", stamp)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조건부 무효화는 진행 중인 모든 읽기를 무효화")
+    void invalidateIfBumpsEveryStripe() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        long stamp = cache.stamp(3L);
+
+        cache.invalidateIf("a"::equals);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isEqualTo("b");
+        assertThat(cache.putIfUnchanged(3L, "c", stamp)).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.community_spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 시각과 ID")
+    void roundTrip() {
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+
+        String cursor = CursorCodec.encode(at, 42L);
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(decoded.getAt()).isEqualTo(at);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 문자열은 IllegalArgumentException")
+    void rejectsNonBase64() {
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("구분자가 없거나 시각/ID 형식이 틀리면 IllegalArgumentException")
+    void rejectsMalformedContent() {
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("2024-03-01T12:30:15")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("yesterday|42")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> CursorCodec.decode(encodeRaw("2024-03-01T12:30:15|abc")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
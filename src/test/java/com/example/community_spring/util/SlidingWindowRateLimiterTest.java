@@ -0,0 +1,124 @@
+package com.example.community_spring.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long START = 10 * WINDOW; // 윈도우 경계에 맞춘 시작 시각
+
+    @Test
+    @DisplayName("윈도우 안에서 limit개까지 허용하고 그다음은 거부")
+    void rejectsAfterLimitWithinWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, Duration.ofMillis(WINDOW), 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", START + i)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", START + 10)).isPositive();
+        // 다른 키는 따로 센다
+        assertThat(limiter.tryAcquire("b", START + 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("윈도우가 넘어가면 직전 윈도우 요청 수를 경과 비율만큼 줄여서 반영")
+    void previousWindowDecaysAfterRollover() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, Duration.ofMillis(WINDOW), 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", START);
+        }
+
+        // 다음 윈도우 시작 직후에는 직전 3건이 거의 그대로 남아 거부
+        assertThat(limiter.tryAcquire("a", START + WINDOW + 1)).isPositive();
+        // 다음 윈도우의 절반이 지나면 직전 윈도우는 1.5건으로 계산되어 허용
+        assertThat(limiter.tryAcquire("a", START + WINDOW + WINDOW / 2)).isZero();
+        // 두 윈도우 이상 지나면 초기화
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", START + 3 * WINDOW + i)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("현재 윈도우만으로 한도에 도달하면 Retry-After는 다음 윈도우에서 충분히 줄어드는 시점")
+    void retryAfterWhenCurrentWindowIsFull() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, Duration.ofMillis(WINDOW), 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", START);
+        }
+
+        long now = START + 10_000;
+        long retryAfter = limiter.tryAcquire("a", now);
+
+        // 다음 윈도우 시작(50초 뒤)만으로는 부족하고, 3 * (1 - t/60s) + 1 <= 3 이 되는 t = 20초까지 기다려야 함
+        assertThat(retryAfter).isBetween(70_000L, 70_001L);
+        assertThat(limiter.tryAcquire("a", now + 50_000)).isPositive();
+        assertThat(limiter.tryAcquire("a", now + retryAfter)).isZero();
+    }
+
+    @Test
+    @DisplayName("직전 윈도우 때문에 거부되면 Retry-After는 가중치가 줄어드는 시점")
+    void retryAfterWhenPreviousWindowDominates() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, Duration.ofMillis(WINDOW), 100);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("a", START);
+        }
+
+        long now = START + WINDOW;
+        long retryAfter = limiter.tryAcquire("a", now);
+
+        // 4 * (1 - t/60s) + 1 <= 4 -> t = 15초
+        assertThat(retryAfter).isBetween(15_000L, 15_001L);
+        assertThat(limiter.tryAcquire("a", now + retryAfter)).isZero();
+    }
+
+    @Test
+    @DisplayName("추적 키가 가득 차면 새 키는 공용 상태를 함께 써서 제한 없이 통과하지 않음")
+    void newKeysShareOverflowWindowWhenFull() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMillis(WINDOW), 2);
+        limiter.tryAcquire("a", START);
+        limiter.tryAcquire("b", START);
+
+        assertThat(limiter.tryAcquire("c", START + 1)).isZero();
+        assertThat(limiter.tryAcquire("d", START + 2)).isZero();
+        // 서로 다른 키여도 공용 한도를 넘으면 거부
+        assertThat(limiter.tryAcquire("e", START + 3)).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태에서 오래된 키는 정리되고 새 키를 다시 추적")
+    void idleKeysAreSweptWhenFull() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMillis(WINDOW), 2);
+        limiter.tryAcquire("a", START);
+        limiter.tryAcquire("b", START);
+
+        assertThat(limiter.tryAcquire("c", START + 3 * WINDOW)).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 정리는 정리 간격 안에서 한 번만 수행")
+    void sweepIsRateLimited() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, Duration.ofMillis(WINDOW), 2);
+        limiter.tryAcquire("a", START);
+        limiter.tryAcquire("b", START);
+
+        // 아직 오래된 키가 없는 시점에 정리 수행
+        long firstSweep = START + 2 * WINDOW - 1;
+        limiter.tryAcquire("c", firstSweep);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // a, b가 오래된 키가 되었지만 정리 간격(윈도우의 1/4)이 지나지 않아 그대로 둠
+        limiter.tryAcquire("d", START + 2 * WINDOW);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // 간격이 지나면 다시 정리
+        limiter.tryAcquire("e", firstSweep + WINDOW / 4);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}